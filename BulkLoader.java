@@ -0,0 +1,517 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client;
+
+import grakn.client.Grakn.Session;
+import grakn.client.Grakn.Transaction;
+import grakn.client.common.exception.GraknClientException;
+import grakn.client.concept.answer.ConceptMap;
+import grakn.client.rpc.RPCTransaction;
+import graql.lang.query.GraqlInsert;
+import io.grpc.StatusRuntimeException;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static grakn.client.common.exception.ErrorMessage.Client.BULK_LOAD_ABORTED;
+import static grakn.client.common.exception.ErrorMessage.Client.BULK_LOAD_INTERRUPTED;
+import static grakn.client.common.exception.ErrorMessage.Client.NEGATIVE_CLIENT_SETTING;
+import static grakn.client.common.exception.ErrorMessage.Client.NON_POSITIVE_CLIENT_SETTING;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Loads a stream of insert queries into a database over several sessions at once. The queries are cut into batches,
+ * and each batch is inserted and committed in a write transaction of its own by one of a fixed set of workers, several
+ * of which share each session. The inserts of a batch are pipelined: up to the options' pipeline depth of them are sent
+ * ahead of the one whose answers are being read. The caller's thread reads the stream, and is held back while the
+ * maximum number of batches are waiting for a worker, so a stream that produces its queries lazily is never held in
+ * memory in full.
+ *
+ * A batch whose transaction fails because the server could not be reached is retried in a new transaction, after a
+ * backoff that doubles with every attempt. A failed commit is not retried unless asked for, since it may have been
+ * applied. Any other failure, such as an invalid query, or a batch that still fails once its retries are spent, fails
+ * the batch: it is counted, handed to the failure callback, and the load carries on with the next batch. If a worker
+ * dies instead, e.g. because the failure callback threw, the load is aborted.
+ */
+public class BulkLoader {
+
+    private static final long MAX_RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long ABORT_CHECK_INTERVAL_MILLIS = 100;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger(0);
+
+    private final Grakn.Client client;
+    private final String database;
+    private final int sessionCount;
+    private final int transactionsPerSession;
+    private final int batchSize;
+    private final int maxQueuedBatches;
+    private final int maxRetries;
+    private final long retryBackoffNanos;
+    private final boolean retryFailedCommits;
+    private final BiConsumer<List<GraqlInsert>, RuntimeException> onFailure;
+    private final GraknOptions options;
+    private final int pipelineDepth;
+    @Nullable
+    private volatile Run run;
+
+    private BulkLoader(Builder builder) {
+        client = builder.client;
+        database = builder.database;
+        sessionCount = builder.sessionCount;
+        transactionsPerSession = builder.transactionsPerSession;
+        batchSize = builder.batchSize;
+        maxQueuedBatches = builder.maxQueuedBatches != null ? builder.maxQueuedBatches : 2 * sessionCount * transactionsPerSession;
+        maxRetries = builder.maxRetries;
+        retryBackoffNanos = builder.retryBackoffNanos;
+        retryFailedCommits = builder.retryFailedCommits;
+        onFailure = builder.onFailure;
+        options = builder.options;
+        pipelineDepth = options.pipelineDepth().orElse(RPCTransaction.DEFAULT_PIPELINE_DEPTH);
+    }
+
+    public static Builder builder(Grakn.Client client, String database) {
+        return new Builder(client, database);
+    }
+
+    /**
+     * Loads every query of the stream, and returns once all of them have been committed or have failed. The stream is
+     * read on the calling thread, but not closed. If a worker dies, the load is aborted, and throws.
+     */
+    public Statistics load(Stream<GraqlInsert> queries) {
+        final Run run = new Run();
+        this.run = run;
+        final int workerCount = sessionCount * transactionsPerSession;
+        final Sessions sessions = new Sessions();
+        final BlockingQueue<List<GraqlInsert>> batches = new ArrayBlockingQueue<>(maxQueuedBatches);
+        final List<GraqlInsert> end = new ArrayList<>(0);
+        final ExecutorService workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            final Thread thread = new Thread(runnable, "grakn-bulk-loader-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < workerCount; i++) {
+                final int session = i / transactionsPerSession;
+                workers.execute(() -> work(sessions, session, batches, end, run));
+            }
+            final Iterator<GraqlInsert> iterator = queries.iterator();
+            List<GraqlInsert> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    enqueue(batches, batch, run);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) enqueue(batches, batch, run);
+            for (int i = 0; i < workerCount; i++) enqueue(batches, end, run);
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, NANOSECONDS);
+            run.checkNotAborted();
+            return run.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GraknClientException(BULK_LOAD_INTERRUPTED);
+        } finally {
+            // Only has work to do if the load did not complete: stops the workers between, or in the middle of, batches
+            workers.shutdownNow();
+            sessions.close();
+            run.finish();
+        }
+    }
+
+    /** The statistics of the load in progress, or else of the last load, if there was one. */
+    public Optional<Statistics> statistics() {
+        final Run run = this.run;
+        return run != null ? Optional.of(run.statistics()) : Optional.empty();
+    }
+
+    // A dead worker would never take its share of the queue, so the producer must not wait for space indefinitely
+    private static void enqueue(BlockingQueue<List<GraqlInsert>> batches, List<GraqlInsert> batch, Run run) throws InterruptedException {
+        do {
+            run.checkNotAborted();
+        } while (!batches.offer(batch, ABORT_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    private void work(Sessions sessions, int session, BlockingQueue<List<GraqlInsert>> batches, List<GraqlInsert> end, Run run) {
+        try {
+            List<GraqlInsert> batch;
+            while (!run.isAborted() && (batch = batches.take()) != end) load(sessions, session, batch, run);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            run.aborted(e);
+        }
+    }
+
+    private void load(Sessions sessions, int session, List<GraqlInsert> batch, Run run) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            final long startNanos = System.nanoTime();
+            boolean isCommitting = false;
+            try {
+                try (Transaction transaction = sessions.get(session).transaction(Transaction.Type.WRITE, options)) {
+                    insert(transaction, batch);
+                    isCommitting = true;
+                    transaction.commit();
+                }
+                run.committed(batch.size(), System.nanoTime() - startNanos);
+                return;
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) throw new InterruptedException();
+                if (attempt >= maxRetries || !isRetriable(e, isCommitting)) {
+                    run.failed(batch.size(), e);
+                    onFailure.accept(batch, e);
+                    return;
+                }
+                run.retried();
+                NANOSECONDS.sleep(Math.min(retryBackoffNanos << Math.min(attempt, 30), MAX_RETRY_BACKOFF_NANOS));
+            }
+        }
+    }
+
+    private void insert(Transaction transaction, List<GraqlInsert> batch) {
+        // Every insert in flight holds a stream open on the transaction
+        final Deque<Stream<ConceptMap>> inFlight = new ArrayDeque<>(Math.min(pipelineDepth, batch.size()));
+        for (GraqlInsert query : batch) {
+            if (inFlight.size() == pipelineDepth) inFlight.remove().forEach(answer -> {});
+            inFlight.add(transaction.query().insert(query, options));
+        }
+        for (Stream<ConceptMap> answers : inFlight) answers.forEach(answer -> {});
+    }
+
+    private boolean isRetriable(RuntimeException failure, boolean isCommitting) {
+        // The commit may have been applied even though its response was lost, in which case a retry inserts the batch twice
+        if (isCommitting && !retryFailedCommits) return false;
+        return isTransient(failure);
+    }
+
+    /** Whether the failure, or one of its causes, is a gRPC error that a later attempt may not run into. */
+    static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StatusRuntimeException) {
+                switch (((StatusRuntimeException) cause).getStatus().getCode()) {
+                    case UNAVAILABLE:
+                    case DEADLINE_EXCEEDED:
+                    case RESOURCE_EXHAUSTED:
+                    case ABORTED:
+                        return true;
+                    default:
+                        return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** The sessions of one load. */
+    private class Sessions {
+
+        private final Session[] sessions;
+
+        private Sessions() {
+            sessions = new Session[sessionCount];
+            try {
+                for (int i = 0; i < sessionCount; i++) sessions[i] = client.session(database, Session.Type.DATA);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private Session get(int index) {
+            return sessions[index];
+        }
+
+        private void close() {
+            for (Session session : sessions) {
+                if (session != null && session.isOpen()) session.close();
+            }
+        }
+    }
+
+    private static class Run {
+
+        private final long startNanos;
+        private volatile long endNanos;
+        private volatile boolean isFinished;
+        private final LongAdder queries;
+        private final LongAdder batches;
+        private final LongAdder retries;
+        private final LongAdder failedQueries;
+        private final LongAdder failedBatches;
+        private final LongAdder batchNanos;
+        private final AtomicLong maxBatchNanos;
+        @Nullable
+        private volatile RuntimeException lastFailure;
+        @Nullable
+        private volatile RuntimeException abortFailure;
+
+        private Run() {
+            startNanos = System.nanoTime();
+            queries = new LongAdder();
+            batches = new LongAdder();
+            retries = new LongAdder();
+            failedQueries = new LongAdder();
+            failedBatches = new LongAdder();
+            batchNanos = new LongAdder();
+            maxBatchNanos = new AtomicLong(0);
+        }
+
+        private void committed(int queryCount, long nanos) {
+            queries.add(queryCount);
+            batches.increment();
+            batchNanos.add(nanos);
+            maxBatchNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private void retried() {
+            retries.increment();
+        }
+
+        private void failed(int queryCount, RuntimeException failure) {
+            failedQueries.add(queryCount);
+            failedBatches.increment();
+            lastFailure = failure;
+        }
+
+        private void aborted(RuntimeException failure) {
+            lastFailure = failure;
+            abortFailure = failure;
+        }
+
+        private boolean isAborted() {
+            return abortFailure != null;
+        }
+
+        private void checkNotAborted() {
+            final RuntimeException failure = abortFailure;
+            if (failure == null) return;
+            final GraknClientException aborted = new GraknClientException(BULK_LOAD_ABORTED.message(failure.getMessage()));
+            aborted.initCause(failure);
+            throw aborted;
+        }
+
+        private synchronized Statistics finish() {
+            if (!isFinished) {
+                endNanos = System.nanoTime();
+                isFinished = true;
+            }
+            return statistics();
+        }
+
+        private Statistics statistics() {
+            final long elapsedNanos = (isFinished ? endNanos : System.nanoTime()) - startNanos;
+            return new Statistics(queries.sum(), batches.sum(), retries.sum(), failedQueries.sum(), failedBatches.sum(),
+                                  elapsedNanos, batchNanos.sum(), maxBatchNanos.get(), lastFailure);
+        }
+    }
+
+    /**
+     * The progress of a load. The latency of a batch is the time from opening its transaction to its commit returning,
+     * and is only counted for batches that committed.
+     */
+    public static class Statistics {
+
+        private final long queries;
+        private final long batches;
+        private final long retries;
+        private final long failedQueries;
+        private final long failedBatches;
+        private final long elapsedNanos;
+        private final long batchNanos;
+        private final long maxBatchNanos;
+        @Nullable
+        private final RuntimeException lastFailure;
+
+        private Statistics(long queries, long batches, long retries, long failedQueries, long failedBatches,
+                           long elapsedNanos, long batchNanos, long maxBatchNanos, @Nullable RuntimeException lastFailure) {
+            this.queries = queries;
+            this.batches = batches;
+            this.retries = retries;
+            this.failedQueries = failedQueries;
+            this.failedBatches = failedBatches;
+            this.elapsedNanos = elapsedNanos;
+            this.batchNanos = batchNanos;
+            this.maxBatchNanos = maxBatchNanos;
+            this.lastFailure = lastFailure;
+        }
+
+        /** The number of queries committed. */
+        public long queries() {
+            return queries;
+        }
+
+        /** The number of batches committed. */
+        public long batches() {
+            return batches;
+        }
+
+        public long retries() {
+            return retries;
+        }
+
+        public long failedQueries() {
+            return failedQueries;
+        }
+
+        public long failedBatches() {
+            return failedBatches;
+        }
+
+        public Optional<RuntimeException> lastFailure() {
+            return Optional.ofNullable(lastFailure);
+        }
+
+        public long elapsed(TimeUnit unit) {
+            return unit.convert(elapsedNanos, NANOSECONDS);
+        }
+
+        public double queriesPerSecond() {
+            return elapsedNanos > 0 ? queries * 1e9 / elapsedNanos : 0;
+        }
+
+        public double meanBatchMillis() {
+            return batches > 0 ? batchNanos / 1e6 / batches : 0;
+        }
+
+        public double maxBatchMillis() {
+            return maxBatchNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d queries in %d batches (%.0f queries/s, batch latency mean %.1f ms, max %.1f ms), " +
+                                         "%d retries, %d queries in %d batches failed",
+                                 queries, batches, queriesPerSecond(), meanBatchMillis(), maxBatchMillis(),
+                                 retries, failedQueries, failedBatches);
+        }
+    }
+
+    public static class Builder {
+
+        private final Grakn.Client client;
+        private final String database;
+        private int sessionCount = 4;
+        private int transactionsPerSession = 2;
+        private int batchSize = 1000;
+        @Nullable
+        private Integer maxQueuedBatches = null;
+        private int maxRetries = 3;
+        private long retryBackoffNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        private boolean retryFailedCommits = false;
+        private BiConsumer<List<GraqlInsert>, RuntimeException> onFailure = (batch, failure) -> {};
+        private GraknOptions options = new GraknOptions();
+
+        private Builder(Grakn.Client client, String database) {
+            this.client = client;
+            this.database = database;
+        }
+
+        public Builder sessions(int sessionCount) {
+            this.sessionCount = positive("sessions", sessionCount);
+            return this;
+        }
+
+        /** Sets the number of workers that share each session, each with one write transaction open at a time. */
+        public Builder transactionsPerSession(int transactionsPerSession) {
+            this.transactionsPerSession = positive("transactionsPerSession", transactionsPerSession);
+            return this;
+        }
+
+        /** Sets the number of queries committed by each transaction. */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = positive("batchSize", batchSize);
+            return this;
+        }
+
+        /** Sets the number of batches that may wait for a worker before the stream stops being read. */
+        public Builder maxQueuedBatches(int maxQueuedBatches) {
+            this.maxQueuedBatches = positive("maxQueuedBatches", maxQueuedBatches);
+            return this;
+        }
+
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = nonNegative("maxRetries", maxRetries);
+            return this;
+        }
+
+        /** Sets the wait before the first retry of a batch, which doubles with every further retry, up to 10 seconds. */
+        public Builder retryBackoff(long retryBackoff, TimeUnit unit) {
+            this.retryBackoffNanos = unit.toNanos(nonNegative("retryBackoff", retryBackoff));
+            return this;
+        }
+
+        /**
+         * Sets whether a batch whose commit failed may be retried. Off by default: a commit that failed in transit may
+         * still have been applied, so only turn this on if inserting a batch twice is harmless.
+         */
+        public Builder retryFailedCommits(boolean retryFailedCommits) {
+            this.retryFailedCommits = retryFailedCommits;
+            return this;
+        }
+
+        /**
+         * Sets a callback for every batch that fails, with the queries of the batch and the failure of its last attempt.
+         * It runs on the worker thread that loaded the batch, which waits for it. If it throws, the load is aborted.
+         */
+        public Builder onFailure(BiConsumer<List<GraqlInsert>, RuntimeException> onFailure) {
+            this.onFailure = onFailure;
+            return this;
+        }
+
+        /**
+         * Sets the options of every transaction and insert query of the load. Their pipeline depth also bounds the inserts
+         * of a batch that are in flight at once.
+         */
+        public Builder options(GraknOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        public BulkLoader build() {
+            return new BulkLoader(this);
+        }
+
+        private static <N extends Number> N positive(String setting, N value) {
+            if (value.longValue() < 1) throw new GraknClientException(NON_POSITIVE_CLIENT_SETTING.message(setting, value));
+            return value;
+        }
+
+        private static <N extends Number> N nonNegative(String setting, N value) {
+            if (value.longValue() < 0) throw new GraknClientException(NEGATIVE_CLIENT_SETTING.message(setting, value));
+            return value;
+        }
+    }
+}
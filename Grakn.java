@@ -34,6 +34,8 @@ public interface Grakn {
 
         DatabaseManager databases();
 
+        SessionPool sessionPool();
+
         boolean isOpen();
 
         void close();
@@ -50,6 +52,18 @@ public interface Grakn {
         List<String> all();
     }
 
+    interface SessionPool extends AutoCloseable {
+
+        /**
+         * Returns an open session on the given database, reusing an idle one where possible. Closing the returned
+         * session gives it back to the pool instead of closing it on the server. If the maximum number of sessions are
+         * borrowed, waits for one to be given back, up to the pool's borrow timeout.
+         */
+        Session borrow(String database, Session.Type type);
+
+        void close();
+    }
+
     interface Session extends AutoCloseable {
 
         Transaction transaction(Transaction.Type type);
@@ -21,15 +21,37 @@ package grakn.client;
 
 import grakn.client.common.exception.GraknClientException;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import static grakn.client.common.exception.ErrorMessage.Client.NEGATIVE_BATCH_SIZE;
+import static grakn.client.common.exception.ErrorMessage.Client.NEGATIVE_CLIENT_SETTING;
+import static grakn.client.common.exception.ErrorMessage.Client.NEGATIVE_READ_AHEAD;
+import static grakn.client.common.exception.ErrorMessage.Client.NEGATIVE_RESPONSE_BUFFER_SIZE;
+import static grakn.client.common.exception.ErrorMessage.Client.NON_POSITIVE_CLIENT_SETTING;
 
 public class GraknOptions {
 
     private Boolean infer = null;
     private Boolean explain = null;
     private Integer batchSize = null;
+    private Integer readAhead = null;
+    private Integer responseBufferSize = null;
+    private Integer preopenedReadTransactions = null;
+    private Long preopenedTransactionMaxAgeMillis = null;
+    private Long writeCoalescingWindowMicros = null;
+    private Integer writeCoalescingMaxBatch = null;
+    private Long queryTimeoutMillis = null;
+    private Boolean adaptiveBatchSize = null;
+    private Boolean compression = null;
+    private Integer compressionThresholdBytes = null;
+    private Set<String> answerVariables = null;
+    private Boolean schemaCache = null;
+    private Integer pipelineDepth = null;
+    private Boolean resolveThingTypes = null;
 
     public Optional<Boolean> infer() {
         return Optional.ofNullable(infer);
@@ -60,4 +82,174 @@ public class GraknOptions {
         this.batchSize = batchSize;
         return this;
     }
+
+    // Client-side only: the number of answer batches that may be requested ahead of the consumer
+    public Optional<Integer> readAhead() {
+        return Optional.ofNullable(readAhead);
+    }
+
+    public GraknOptions readAhead(int readAhead) {
+        if (readAhead < 0) {
+            throw new GraknClientException(NEGATIVE_READ_AHEAD.message(readAhead));
+        }
+        this.readAhead = readAhead;
+        return this;
+    }
+
+    // Client-side only: the maximum number of response messages a transaction buffers before it stops reading from the network
+    public Optional<Integer> responseBufferSize() {
+        return Optional.ofNullable(responseBufferSize);
+    }
+
+    public GraknOptions responseBufferSize(int responseBufferSize) {
+        if (responseBufferSize < 1) {
+            throw new GraknClientException(NEGATIVE_RESPONSE_BUFFER_SIZE.message(responseBufferSize));
+        }
+        this.responseBufferSize = responseBufferSize;
+        return this;
+    }
+
+    // Client-side only: the number of READ transactions a session keeps open in the background, ready to hand out
+    public Optional<Integer> preopenedReadTransactions() {
+        return Optional.ofNullable(preopenedReadTransactions);
+    }
+
+    public GraknOptions preopenedReadTransactions(int preopenedReadTransactions) {
+        if (preopenedReadTransactions < 1) {
+            throw new GraknClientException(NON_POSITIVE_CLIENT_SETTING.message("preopenedReadTransactions", preopenedReadTransactions));
+        }
+        this.preopenedReadTransactions = preopenedReadTransactions;
+        return this;
+    }
+
+    // Client-side only: how long a pre-opened READ transaction may wait before it is closed, as its snapshot is too stale
+    public Optional<Long> preopenedTransactionMaxAgeMillis() {
+        return Optional.ofNullable(preopenedTransactionMaxAgeMillis);
+    }
+
+    public GraknOptions preopenedTransactionMaxAgeMillis(long preopenedTransactionMaxAgeMillis) {
+        if (preopenedTransactionMaxAgeMillis < 1) {
+            throw new GraknClientException(NON_POSITIVE_CLIENT_SETTING.message("preopenedTransactionMaxAgeMillis", preopenedTransactionMaxAgeMillis));
+        }
+        this.preopenedTransactionMaxAgeMillis = preopenedTransactionMaxAgeMillis;
+        return this;
+    }
+
+    // Client-side only: setting either coalescing option makes the transaction queue outbound requests and flush them together
+    public Optional<Long> writeCoalescingWindowMicros() {
+        return Optional.ofNullable(writeCoalescingWindowMicros);
+    }
+
+    public GraknOptions writeCoalescingWindowMicros(long writeCoalescingWindowMicros) {
+        if (writeCoalescingWindowMicros < 0) {
+            throw new GraknClientException(NEGATIVE_CLIENT_SETTING.message("writeCoalescingWindowMicros", writeCoalescingWindowMicros));
+        }
+        this.writeCoalescingWindowMicros = writeCoalescingWindowMicros;
+        return this;
+    }
+
+    public Optional<Integer> writeCoalescingMaxBatch() {
+        return Optional.ofNullable(writeCoalescingMaxBatch);
+    }
+
+    public GraknOptions writeCoalescingMaxBatch(int writeCoalescingMaxBatch) {
+        if (writeCoalescingMaxBatch < 1) {
+            throw new GraknClientException(NON_POSITIVE_CLIENT_SETTING.message("writeCoalescingMaxBatch", writeCoalescingMaxBatch));
+        }
+        this.writeCoalescingMaxBatch = writeCoalescingMaxBatch;
+        return this;
+    }
+
+    // Client-side only: once this has elapsed, the client stops fetching answers and fails the query with a timeout
+    public Optional<Long> queryTimeoutMillis() {
+        return Optional.ofNullable(queryTimeoutMillis);
+    }
+
+    public GraknOptions queryTimeoutMillis(long queryTimeoutMillis) {
+        if (queryTimeoutMillis < 1) {
+            throw new GraknClientException(NON_POSITIVE_CLIENT_SETTING.message("queryTimeoutMillis", queryTimeoutMillis));
+        }
+        this.queryTimeoutMillis = queryTimeoutMillis;
+        return this;
+    }
+
+    // Client-side only: unless batchSize is set, the client chooses it from the consumption rate of earlier streams
+    public Optional<Boolean> adaptiveBatchSize() {
+        return Optional.ofNullable(adaptiveBatchSize);
+    }
+
+    public GraknOptions adaptiveBatchSize(boolean adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+        return this;
+    }
+
+    // Client-side only: on a transaction, turns gzip request compression on (unless the client has a compressor) or
+    // off; on a query, only decides whether that query's request is compressed
+    public Optional<Boolean> compression() {
+        return Optional.ofNullable(compression);
+    }
+
+    public GraknOptions compression(boolean compression) {
+        this.compression = compression;
+        return this;
+    }
+
+    // Client-side only: requests smaller than this are sent uncompressed
+    public Optional<Integer> compressionThresholdBytes() {
+        return Optional.ofNullable(compressionThresholdBytes);
+    }
+
+    public GraknOptions compressionThresholdBytes(int compressionThresholdBytes) {
+        if (compressionThresholdBytes < 0) {
+            throw new GraknClientException(NEGATIVE_CLIENT_SETTING.message("compressionThresholdBytes", compressionThresholdBytes));
+        }
+        this.compressionThresholdBytes = compressionThresholdBytes;
+        return this;
+    }
+
+    // Client-side only: answers only expose these variables, and the concepts bound to the others are never decoded
+    public Optional<Set<String>> answerVariables() {
+        return Optional.ofNullable(answerVariables);
+    }
+
+    public GraknOptions answerVariables(String... answerVariables) {
+        this.answerVariables = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(answerVariables)));
+        return this;
+    }
+
+    // Client-side only: on a DATA session, answers type and rule reads from a snapshot of the schema, which is reloaded
+    // after a SCHEMA transaction on the same client commits; on a transaction, false reads from the server instead
+    public Optional<Boolean> schemaCache() {
+        return Optional.ofNullable(schemaCache);
+    }
+
+    public GraknOptions schemaCache(boolean schemaCache) {
+        this.schemaCache = schemaCache;
+        return this;
+    }
+
+    // Client-side only: the number of concepts whose requests are sent ahead of the one being read by pipelined reads,
+    // such as ConceptManager#getHas; each of them holds a stream open on the transaction
+    public Optional<Integer> pipelineDepth() {
+        return Optional.ofNullable(pipelineDepth);
+    }
+
+    public GraknOptions pipelineDepth(int pipelineDepth) {
+        if (pipelineDepth < 1) {
+            throw new GraknClientException(NON_POSITIVE_CLIENT_SETTING.message("pipelineDepth", pipelineDepth));
+        }
+        this.pipelineDepth = pipelineDepth;
+        return this;
+    }
+
+    // Client-side only: before a batch of a streamed match or insert query's answers is read, the types of its things
+    // are resolved together, in one round trip, so that every thing decoded from it knows its type
+    public Optional<Boolean> resolveThingTypes() {
+        return Optional.ofNullable(resolveThingTypes);
+    }
+
+    public GraknOptions resolveThingTypes(boolean resolveThingTypes) {
+        this.resolveThingTypes = resolveThingTypes;
+        return this;
+    }
 }
@@ -36,6 +36,36 @@ public abstract class ErrorMessage extends grakn.common.exception.ErrorMessage {
                 new Client(4, "The required field 'res' of type '%s' was not set.");
         public static final Client UNKNOWN_REQUEST_ID =
                 new Client(5, "Received a response with unknown request id '%s'.");
+        public static final Client NEGATIVE_READ_AHEAD =
+                new Client(6, "Read-ahead depth cannot be less than 0, was: '%d'.");
+        public static final Client NEGATIVE_RESPONSE_BUFFER_SIZE =
+                new Client(7, "Response buffer size cannot be less than 1, was: '%d'.");
+        public static final Client PUBLISHER_ALREADY_SUBSCRIBED =
+                new Client(8, "A query publisher only supports a single subscriber.");
+        public static final Client NON_POSITIVE_DEMAND =
+                new Client(9, "A subscriber must request a positive number of answers, was: '%d'.");
+        public static final Client NON_POSITIVE_CHANNEL_COUNT =
+                new Client(10, "A client must have at least 1 channel, was: '%d'.");
+        public static final Client NON_POSITIVE_CLIENT_SETTING =
+                new Client(11, "The client setting '%s' must be positive, was: '%d'.");
+        public static final Client NEGATIVE_CLIENT_SETTING =
+                new Client(12, "The client setting '%s' cannot be negative, was: '%d'.");
+        public static final Client SESSION_POOL_CLOSED =
+                new Client(13, "The session pool has been closed and no further sessions can be borrowed.");
+        public static final Client QUERY_STREAM_CLOSED =
+                new Client(14, "The query stream has been closed and no further answers can be read.");
+        public static final Client QUERY_TIMED_OUT =
+                new Client(15, "The query did not complete before its deadline and has been cancelled.");
+        public static final Client UNKNOWN_COMPRESSOR =
+                new Client(16, "The compressor '%s' is not registered with gRPC.");
+        public static final Client BULK_LOAD_INTERRUPTED =
+                new Client(17, "The bulk load was interrupted before all of its queries were loaded.");
+        public static final Client BULK_LOAD_ABORTED =
+                new Client(18, "The bulk load was aborted because one of its workers failed: '%s'.");
+        public static final Client RESPONSE_BUFFER_EXHAUSTED =
+                new Client(19, "The response buffer of %d responses is full of responses to requests that are not being read.");
+        public static final Client SESSION_POOL_EXHAUSTED =
+                new Client(20, "No session could be borrowed within %d ms, as all %d sessions of the pool were borrowed.");
 
         private static final String codePrefix = "CLI";
         private static final String messagePrefix = "Illegal Client State";
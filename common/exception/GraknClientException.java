@@ -35,7 +35,7 @@ public class GraknClientException extends RuntimeException {
     }
 
     public GraknClientException(StatusRuntimeException statusRuntimeException) {
-        super(statusRuntimeException.getStatus().getDescription());
+        super(statusRuntimeException.getStatus().getDescription(), statusRuntimeException);
     }
 
     public GraknClientException(Exception e) {
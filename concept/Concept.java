@@ -25,6 +25,7 @@ import grakn.client.concept.thing.Thing;
 import grakn.client.concept.thing.impl.ThingImpl;
 import grakn.client.concept.type.Type;
 import grakn.client.concept.type.impl.TypeImpl;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 
 import javax.annotation.CheckReturnValue;
@@ -50,6 +51,8 @@ public interface Concept {
 
         void delete();
 
+        QueryFuture<Void> deleteAsync();
+
         @CheckReturnValue
         boolean isDeleted();
 
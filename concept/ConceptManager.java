@@ -19,19 +19,23 @@
 
 package grakn.client.concept;
 
+import grakn.client.concept.thing.Attribute;
+import grakn.client.concept.thing.IID;
+import grakn.client.concept.thing.Relation;
 import grakn.client.concept.thing.Thing;
+import grakn.client.concept.thing.impl.RelationImpl;
 import grakn.client.concept.thing.impl.ThingImpl;
 import grakn.client.concept.type.AttributeType;
 import grakn.client.concept.type.EntityType;
 import grakn.client.concept.type.RelationType;
+import grakn.client.concept.type.RoleType;
 import grakn.client.concept.type.Rule;
 import grakn.client.concept.type.ThingType;
 import grakn.client.concept.type.Type;
-import grakn.client.concept.type.impl.AttributeTypeImpl;
-import grakn.client.concept.type.impl.EntityTypeImpl;
-import grakn.client.concept.type.impl.RelationTypeImpl;
 import grakn.client.concept.type.impl.RuleImpl;
-import grakn.client.concept.type.impl.TypeImpl;
+import grakn.client.concept.type.impl.SchemaSnapshot;
+import grakn.client.concept.type.impl.ThingTypeImpl;
+import grakn.client.rpc.QueryFuture;
 import grakn.client.rpc.RPCTransaction;
 import grakn.protocol.ConceptProto;
 import grakn.protocol.TransactionProto;
@@ -40,9 +44,26 @@ import graql.lang.pattern.Pattern;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static grakn.client.common.ProtoBuilder.tracingData;
-import static grakn.client.concept.proto.ConceptProtoBuilder.iid;
+import static grakn.client.concept.proto.ConceptProtoBuilder.types;
 import static grakn.client.concept.proto.ConceptProtoBuilder.valueType;
 
 public final class ConceptManager {
@@ -78,7 +99,7 @@ public final class ConceptManager {
                 .setPutEntityTypeReq(ConceptProto.ConceptManager.PutEntityType.Req.newBuilder()
                         .setLabel(label)).build();
         final ConceptProto.ConceptManager.Res res = execute(req);
-        return EntityTypeImpl.of(res.getPutEntityTypeRes().getEntityType());
+        return rpcTransaction.types().get(res.getPutEntityTypeRes().getEntityType()).asEntityType();
     }
 
     @Nullable
@@ -94,7 +115,7 @@ public final class ConceptManager {
                 .setPutRelationTypeReq(ConceptProto.ConceptManager.PutRelationType.Req.newBuilder()
                         .setLabel(label)).build();
         final ConceptProto.ConceptManager.Res res = execute(req);
-        return RelationTypeImpl.of(res.getPutRelationTypeRes().getRelationType());
+        return rpcTransaction.types().get(res.getPutRelationTypeRes().getRelationType()).asRelationType();
     }
 
     @Nullable
@@ -111,7 +132,7 @@ public final class ConceptManager {
                         .setLabel(label)
                         .setValueType(valueType(valueType))).build();
         final ConceptProto.ConceptManager.Res res = execute(req);
-        return AttributeTypeImpl.of(res.getPutAttributeTypeRes().getAttributeType());
+        return rpcTransaction.types().get(res.getPutAttributeTypeRes().getAttributeType()).asAttributeType();
     }
 
     @Nullable
@@ -135,25 +156,165 @@ public final class ConceptManager {
     @Nullable
     @CheckReturnValue
     public Thing getThing(String iid) {
+        return getThing(IID.of(iid));
+    }
+
+    @Nullable
+    @CheckReturnValue
+    public Thing getThing(IID iid) {
         final ConceptProto.ConceptManager.Req req = ConceptProto.ConceptManager.Req.newBuilder()
-                .setGetThingReq(ConceptProto.ConceptManager.GetThing.Req.newBuilder().setIid(iid(iid))).build();
+                .setGetThingReq(ConceptProto.ConceptManager.GetThing.Req.newBuilder().setIid(iid.bytes())).build();
 
         final ConceptProto.ConceptManager.Res response = execute(req);
         if (response.getGetThingRes().getResCase() == ConceptProto.ConceptManager.GetThing.Res.ResCase.THING)
-            return ThingImpl.of(response.getGetThingRes().getThing());
+            return ThingImpl.of(response.getGetThingRes().getThing(), rpcTransaction.types());
         else
             return null;
     }
 
+    /**
+     * Returns the types of the things with the given IIDs. The types the session has not resolved yet are requested
+     * all at once, before any response is read, so the whole batch costs a single round trip.
+     */
+    @CheckReturnValue
+    public Map<IID, ThingType> getThingTypes(Collection<IID> iids) {
+        final Map<IID, QueryFuture<ThingTypeImpl>> pending = new LinkedHashMap<>();
+        for (IID iid : iids) {
+            if (!pending.containsKey(iid)) pending.put(iid, ThingImpl.resolveType(rpcTransaction, iid));
+        }
+        final Map<IID, ThingType> types = new LinkedHashMap<>();
+        pending.forEach((iid, type) -> types.put(iid, type.get()));
+        return types;
+    }
+
+    /**
+     * Returns the attributes of each of the given things, of the given attribute types, or of any type if none are
+     * given. See {@link #getHas(Stream, AttributeType...)}.
+     */
+    @CheckReturnValue
+    public Map<Thing, List<Attribute<?>>> getHas(Collection<? extends Thing> owners, AttributeType... attributeTypes) {
+        return toMap(getHas(owners.stream(), attributeTypes));
+    }
+
+    /**
+     * Returns the attributes of each of the given things, in the order of the things, of the given attribute types, or
+     * of any type if none are given. The requests are pipelined: see {@link #pipelined(Stream, Function, Function)}. A
+     * stream that is not read to the end must be closed.
+     */
+    @CheckReturnValue
+    public Stream<Map.Entry<Thing, List<Attribute<?>>>> getHas(Stream<? extends Thing> owners, AttributeType... attributeTypes) {
+        final ConceptProto.Thing.GetHas.Req method = ConceptProto.Thing.GetHas.Req.newBuilder()
+                .addAllAttributeTypes(types(Arrays.asList(attributeTypes))).build();
+        return pipelined(owners, owner -> getHas(owner, method), attributes -> {
+            final List<Attribute<?>> list = new ArrayList<>();
+            attributes.forEach(list::add);
+            return Collections.unmodifiableList(list);
+        });
+    }
+
+    /**
+     * Returns the players of each of the given relations, by role. See {@link #getPlayersByRoleType(Stream)}.
+     */
+    @CheckReturnValue
+    public Map<Relation, Map<RoleType, List<? extends Thing>>> getPlayersByRoleType(Collection<? extends Relation> relations) {
+        return toMap(getPlayersByRoleType(relations.stream()));
+    }
+
+    /**
+     * Returns the players of each of the given relations, by role, in the order of the relations. The requests are
+     * pipelined: see {@link #pipelined(Stream, Function, Function)}. A stream that is not read to the end must be closed.
+     */
+    @CheckReturnValue
+    public Stream<Map.Entry<Relation, Map<RoleType, List<? extends Thing>>>> getPlayersByRoleType(Stream<? extends Relation> relations) {
+        return pipelined(relations, relation -> RelationImpl.getRolePlayers(rpcTransaction, relation.iid()),
+                         rolePlayers -> Collections.<RoleType, List<? extends Thing>>unmodifiableMap(RelationImpl.playersByRoleType(rolePlayers)));
+    }
+
+    private Stream<Attribute<?>> getHas(Thing owner, ConceptProto.Thing.GetHas.Req method) {
+        final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
+                .setThingReq(ConceptProto.Thing.Req.newBuilder().setIid(owner.iid().bytes()).setThingGetHasReq(method));
+        return rpcTransaction.stream(request, res -> res.getThingRes().getThingGetHasRes().getAttributeList().stream()
+                .<Attribute<?>>map(attribute -> ThingImpl.of(attribute, rpcTransaction.types()).asAttribute()));
+    }
+
+    /**
+     * Maps each concept to what is read from the stream requested for it. Up to {@link RPCTransaction#pipelineDepth()}
+     * concepts are requested ahead of the one being read, so the requests overlap instead of each waiting for the
+     * previous one. Closing the returned stream cancels the requests still in flight, and closes the given stream; they
+     * are also cancelled if reading one of them fails. Once read to the end, no request is left in flight.
+     */
+    private <CONCEPT, ITEM, RESULT> Stream<Map.Entry<CONCEPT, RESULT>> pipelined(
+            Stream<? extends CONCEPT> concepts, Function<CONCEPT, Stream<ITEM>> request, Function<Stream<ITEM>, RESULT> read) {
+        final int depth = rpcTransaction.pipelineDepth();
+        final Iterator<? extends CONCEPT> conceptIterator = concepts.iterator();
+        final Deque<Map.Entry<CONCEPT, Stream<ITEM>>> inFlight = new ArrayDeque<>();
+        final Iterator<Map.Entry<CONCEPT, RESULT>> iterator = new Iterator<Map.Entry<CONCEPT, RESULT>>() {
+
+            @Override
+            public boolean hasNext() {
+                requestAhead();
+                return !inFlight.isEmpty();
+            }
+
+            @Override
+            public Map.Entry<CONCEPT, RESULT> next() {
+                requestAhead();
+                if (inFlight.isEmpty()) throw new NoSuchElementException();
+                final Map.Entry<CONCEPT, Stream<ITEM>> next = inFlight.remove();
+                // Send the next request before waiting on this one
+                requestAhead();
+                final RESULT result;
+                try {
+                    result = read.apply(next.getValue());
+                } catch (RuntimeException e) {
+                    next.getValue().close();
+                    cancelInFlight(inFlight);
+                    throw e;
+                }
+                return new AbstractMap.SimpleImmutableEntry<>(next.getKey(), result);
+            }
+
+            private void requestAhead() {
+                while (inFlight.size() < depth && conceptIterator.hasNext()) {
+                    final CONCEPT concept = conceptIterator.next();
+                    inFlight.add(new AbstractMap.SimpleImmutableEntry<>(concept, request.apply(concept)));
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    cancelInFlight(inFlight);
+                    concepts.close();
+                });
+    }
+
+    private static <CONCEPT, ITEM> void cancelInFlight(Deque<Map.Entry<CONCEPT, Stream<ITEM>>> inFlight) {
+        Map.Entry<CONCEPT, Stream<ITEM>> pending;
+        while ((pending = inFlight.poll()) != null) pending.getValue().close();
+    }
+
+    private static <KEY, VALUE> Map<KEY, VALUE> toMap(Stream<Map.Entry<KEY, VALUE>> entries) {
+        final Map<KEY, VALUE> map = new LinkedHashMap<>();
+        try (Stream<Map.Entry<KEY, VALUE>> stream = entries) {
+            stream.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+        }
+        return map;
+    }
+
     @Nullable
     @CheckReturnValue
     public Type getType(String label) {
+        final SchemaSnapshot schema = rpcTransaction.schema();
+        if (schema != null) {
+            final Type type = schema.type(label);
+            if (type != null) return type;
+        }
         final ConceptProto.ConceptManager.Req req = ConceptProto.ConceptManager.Req.newBuilder()
                 .setGetTypeReq(ConceptProto.ConceptManager.GetType.Req.newBuilder().setLabel(label)).build();
 
         final ConceptProto.ConceptManager.Res response = execute(req);
         if (response.getGetTypeRes().getResCase() == ConceptProto.ConceptManager.GetType.Res.ResCase.TYPE)
-            return TypeImpl.of(response.getGetTypeRes().getType());
+            return rpcTransaction.types().get(response.getGetTypeRes().getType());
         else
             return null;
     }
@@ -161,6 +322,13 @@ public final class ConceptManager {
     @Nullable
     @CheckReturnValue
     public Rule getRule(String label) {
+        final SchemaSnapshot schema = rpcTransaction.schema();
+        if (schema != null) return schema.rule(label, this::fetchRule);
+        return fetchRule(label);
+    }
+
+    @Nullable
+    private Rule fetchRule(String label) {
         final ConceptProto.ConceptManager.Req req = ConceptProto.ConceptManager.Req.newBuilder()
                 .setGetRuleReq(ConceptProto.ConceptManager.GetRule.Req.newBuilder().setLabel(label)).build();
 
@@ -19,10 +19,12 @@
 
 package grakn.client.concept.answer;
 
-import grakn.client.Grakn.Transaction;
 import grakn.client.common.exception.GraknClientException;
+import grakn.client.concept.type.impl.TypeTable;
 import grakn.protocol.AnswerProto;
 
+import javax.annotation.Nullable;
+
 import static grakn.client.common.exception.ErrorMessage.Query.BAD_ANSWER_TYPE;
 import static grakn.client.common.exception.ErrorMessage.Query.MISSING_ANSWER;
 import static grakn.common.util.Objects.className;
@@ -36,12 +38,12 @@ public interface Answer {
         throw new UnsupportedOperationException();
     }
 
-    static Answer of(Transaction tx, AnswerProto.Answer res) {
+    static Answer of(AnswerProto.Answer res, @Nullable TypeTable types) {
         switch (res.getAnswerCase()) {
             case ANSWER_GROUP:
-                return AnswerGroup.of(tx, res.getAnswerGroup());
+                return AnswerGroup.of(res.getAnswerGroup(), types);
             case CONCEPT_MAP:
-                return ConceptMap.of(res.getConceptMap());
+                return ConceptMap.of(res.getConceptMap(), types);
             case ANSWER_NOT_SET:
                 throw new GraknClientException(MISSING_ANSWER.message(className(AnswerProto.Answer.AnswerCase.class)));
             case NUMBER:
@@ -19,12 +19,12 @@
 
 package grakn.client.concept.answer;
 
-import grakn.client.Grakn.Transaction;
 import grakn.client.concept.Concept;
 import grakn.client.concept.thing.impl.ThingImpl;
-import grakn.client.concept.type.impl.TypeImpl;
+import grakn.client.concept.type.impl.TypeTable;
 import grakn.protocol.AnswerProto;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
@@ -39,11 +39,11 @@ public class AnswerGroup<T> implements Answer {
         this.answers = answers;
     }
 
-    public static AnswerGroup<? extends Answer> of(Transaction tx, AnswerProto.AnswerGroup res) {
+    public static AnswerGroup<? extends Answer> of(AnswerProto.AnswerGroup res, @Nullable TypeTable types) {
         Concept concept;
-        if (res.getOwner().hasThing()) concept = ThingImpl.of(res.getOwner().getThing());
-        else concept = TypeImpl.of(res.getOwner().getType());
-        return new AnswerGroup<>(concept, res.getAnswersList().stream().map(answer -> Answer.of(tx, answer)).collect(toList()));
+        if (res.getOwner().hasThing()) concept = ThingImpl.of(res.getOwner().getThing(), types);
+        else concept = TypeTable.decode(types, res.getOwner().getType());
+        return new AnswerGroup<>(concept, res.getAnswersList().stream().map(answer -> Answer.of(answer, types)).collect(toList()));
     }
 
     public Concept owner() {
@@ -22,62 +22,144 @@ package grakn.client.concept.answer;
 import grakn.client.common.exception.GraknClientException;
 import grakn.client.concept.Concept;
 import grakn.client.concept.thing.impl.ThingImpl;
-import grakn.client.concept.type.impl.TypeImpl;
+import grakn.client.concept.type.impl.TypeTable;
 import grakn.protocol.AnswerProto;
+import grakn.protocol.ConceptProto;
 import graql.lang.Graql;
 import graql.lang.pattern.Pattern;
 
+import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static grakn.client.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
 
+/**
+ * An answer read from the server keeps its protobuf message, and only decodes the concept bound to a variable the
+ * first time it is read; the whole map is decoded if {@link #map()}, {@link #concepts()}, or equality are used.
+ */
 public class ConceptMap implements Answer {
 
-    private final Map<String, Concept> map;
-    private final Pattern queryPattern;
+    @Nullable
+    private final AnswerProto.ConceptMap res;
+    private final QueryPattern queryPattern;
+    @Nullable
+    private final TypeTable types;
+    private volatile Map<String, Concept> map;
+    // Concepts decoded one variable at a time, before the whole map is needed; guarded by this
+    private Map<String, Concept> decoded;
 
     public ConceptMap(Map<String, Concept> map, Pattern queryPattern) {
+        this(map, new QueryPattern(queryPattern));
+    }
+
+    private ConceptMap(Map<String, Concept> map, QueryPattern queryPattern) {
+        this.res = null;
+        this.queryPattern = queryPattern;
+        this.types = null;
         this.map = Collections.unmodifiableMap(map);
+    }
+
+    private ConceptMap(AnswerProto.ConceptMap res, QueryPattern queryPattern, @Nullable TypeTable types) {
+        this.res = res;
         this.queryPattern = queryPattern;
+        this.types = types;
+        this.map = null;
     }
 
     public static ConceptMap of(AnswerProto.ConceptMap res) {
-        final Map<String, Concept> variableMap = new HashMap<>();
-        res.getMapMap().forEach((resVar, resConcept) -> {
-            Concept concept;
-            if (resConcept.hasThing()) concept = ThingImpl.of(resConcept.getThing());
-            else concept = TypeImpl.of(resConcept.getType());
-            variableMap.put(resVar, concept);
-        });
-        Pattern queryPattern = res.getPattern().equals("") ? null : Graql.parsePattern(res.getPattern());
-        return new ConceptMap(Collections.unmodifiableMap(variableMap), queryPattern);
+        return of(res, null);
+    }
+
+    public static ConceptMap of(AnswerProto.ConceptMap res, @Nullable TypeTable types) {
+        return new ConceptMap(res, new QueryPattern(res.getPattern()), types);
+    }
+
+    /**
+     * Returns a function that reads the answers of one query. All the answers of a query carry the same pattern, so
+     * consecutive answers with an identical pattern share it, and it is only parsed if {@link #queryPattern()} is called.
+     */
+    public static Function<AnswerProto.ConceptMap, ConceptMap> reader(@Nullable TypeTable types) {
+        final QueryPattern.Cache patterns = new QueryPattern.Cache();
+        return res -> new ConceptMap(res, patterns.get(res.getPattern()), types);
+    }
+
+    /**
+     * Like {@link #reader(TypeTable)}, but the answers only contain the given variables: the others are dropped without being
+     * decoded, and the answer does not hold on to the message they came in.
+     */
+    public static Function<AnswerProto.ConceptMap, ConceptMap> reader(Set<String> variables, @Nullable TypeTable types) {
+        final QueryPattern.Cache patterns = new QueryPattern.Cache();
+        return res -> {
+            final Map<String, Concept> variableMap = new HashMap<>(variables.size());
+            for (String variable : variables) {
+                final ConceptProto.Concept resConcept = res.getMapOrDefault(variable, null);
+                if (resConcept != null) variableMap.put(variable, concept(resConcept, types));
+            }
+            return new ConceptMap(variableMap, patterns.get(res.getPattern()));
+        };
+    }
+
+    private static Concept concept(ConceptProto.Concept resConcept, @Nullable TypeTable types) {
+        if (resConcept.hasThing()) return ThingImpl.of(resConcept.getThing(), types);
+        else return TypeTable.decode(types, resConcept.getType());
     }
 
     public Pattern queryPattern() {
-        return queryPattern;
+        return queryPattern.get();
     }
 
     public Map<String, Concept> map() {
+        Map<String, Concept> map = this.map;
+        if (map == null) {
+            synchronized (this) {
+                if (this.map == null) {
+                    assert res != null;
+                    final Map<String, Concept> variableMap = new HashMap<>();
+                    // Reuse the concepts already handed out by get, so that they keep their identity
+                    res.getMapMap().forEach((resVar, resConcept) -> variableMap.put(
+                            resVar, decoded != null && decoded.containsKey(resVar) ? decoded.get(resVar) : concept(resConcept, types)));
+                    this.map = Collections.unmodifiableMap(variableMap);
+                    decoded = null;
+                }
+                map = this.map;
+            }
+        }
         return map;
     }
 
     public Collection<Concept> concepts() {
-        return map.values();
+        return map().values();
     }
 
     public Concept get(String variable) {
-        Concept concept = map.get(variable);
+        final Map<String, Concept> map = this.map;
+        final Concept concept = map != null ? map.get(variable) : decode(variable);
         if (concept == null) throw new GraknClientException(VARIABLE_DOES_NOT_EXIST.message(variable));
         return concept;
     }
 
+    @Nullable
+    private synchronized Concept decode(String variable) {
+        if (this.map != null) return this.map.get(variable);
+        assert res != null;
+        if (decoded != null && decoded.containsKey(variable)) return decoded.get(variable);
+        final ConceptProto.Concept resConcept = res.getMapOrDefault(variable, null);
+        if (resConcept == null) return null;
+        if (decoded == null) decoded = new HashMap<>();
+        final Concept concept = concept(resConcept, types);
+        decoded.put(variable, concept);
+        return concept;
+    }
+
     @Override
     public String toString() {
-        return map.entrySet().stream()
+        return map().entrySet().stream()
                 .sorted(Map.Entry.comparingByKey())
                 .map(e -> "[" + e.getKey() + "/" + e.getValue() + "]").collect(Collectors.joining());
     }
@@ -87,9 +169,46 @@ public class ConceptMap implements Answer {
         if (obj == this) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         ConceptMap a2 = (ConceptMap) obj;
-        return map.equals(a2.map);
+        return map().equals(a2.map());
     }
 
     @Override
-    public int hashCode() { return map.hashCode();}
+    public int hashCode() { return map().hashCode();}
+
+    private static class QueryPattern {
+
+        private final String pattern;
+        private volatile Pattern parsed;
+
+        private QueryPattern(String pattern) {
+            this.pattern = pattern;
+            this.parsed = null;
+        }
+
+        private QueryPattern(Pattern parsed) {
+            this.pattern = null;
+            this.parsed = parsed;
+        }
+
+        @Nullable
+        Pattern get() {
+            // Parsing twice in a race is harmless, both threads get an equal pattern
+            if (parsed == null && pattern != null && !pattern.isEmpty()) parsed = Graql.parsePattern(pattern);
+            return parsed;
+        }
+
+        /** Remembers the last pattern seen, which is the only one a query's answers ever carry. */
+        static class Cache {
+
+            private volatile QueryPattern last;
+
+            QueryPattern get(String pattern) {
+                final QueryPattern last = this.last;
+                if (last != null && last.pattern.equals(pattern)) return last;
+                final QueryPattern next = new QueryPattern(pattern);
+                this.last = next;
+                return next;
+            }
+        }
+    }
 }
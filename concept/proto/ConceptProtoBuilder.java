@@ -19,7 +19,6 @@
 
 package grakn.client.concept.proto;
 
-import com.google.protobuf.ByteString;
 import grakn.client.common.exception.GraknClientException;
 import grakn.client.concept.Concept;
 import grakn.client.concept.answer.ConceptMap;
@@ -42,7 +41,6 @@ import java.time.ZoneId;
 import java.util.Collection;
 
 import static grakn.client.common.exception.ErrorMessage.Concept.BAD_ATTRIBUTE_VALUE;
-import static grakn.common.collection.Bytes.hexStringToBytes;
 import static java.util.stream.Collectors.toList;
 
 public abstract class ConceptProtoBuilder {
@@ -59,7 +57,7 @@ public abstract class ConceptProtoBuilder {
 
     public static ConceptProto.Thing thing(Thing thing) {
         return ConceptProto.Thing.newBuilder()
-                .setIid(iid(thing.getIID()))
+                .setIid(thing.iid().bytes())
                 .setEncoding(encoding(thing))
                 .build();
     }
@@ -117,10 +115,6 @@ public abstract class ConceptProtoBuilder {
         }
     }
 
-    public static ByteString iid(String iid) {
-        return ByteString.copyFrom(hexStringToBytes(iid));
-    }
-
     private static ConceptProto.Thing.ENCODING encoding(Thing thing) {
         if (thing instanceof Entity) {
             return ConceptProto.Thing.ENCODING.ENTITY;
@@ -22,6 +22,7 @@ package grakn.client.concept.thing;
 import grakn.client.Grakn;
 import grakn.client.concept.type.AttributeType;
 import grakn.client.concept.type.ThingType;
+import grakn.client.rpc.QueryFuture;
 
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
@@ -52,6 +53,9 @@ public interface Attribute<VALUE> extends Thing {
         @Override
         AttributeType getType();
 
+        @Override
+        QueryFuture<? extends AttributeType> getTypeAsync();
+
         @Override
         Attribute.Remote<VALUE> asAttribute();
 
@@ -21,6 +21,7 @@ package grakn.client.concept.thing;
 
 import grakn.client.Grakn;
 import grakn.client.concept.type.EntityType;
+import grakn.client.rpc.QueryFuture;
 
 public interface Entity extends Thing {
 
@@ -31,5 +32,8 @@ public interface Entity extends Thing {
 
         @Override
         EntityType getType();
+
+        @Override
+        QueryFuture<? extends EntityType> getTypeAsync();
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.concept.thing;
+
+import com.google.protobuf.ByteString;
+import grakn.client.common.exception.GraknClientException;
+
+import static grakn.client.common.exception.ErrorMessage.Concept.MISSING_IID;
+import static grakn.common.collection.Bytes.bytesToHexString;
+import static grakn.common.collection.Bytes.hexStringToBytes;
+
+/**
+ * The binary IID of a thing. It shares the immutable bytes of the message it was read from, and is sent back to the
+ * server as is; the hex form is only built if asked for.
+ */
+public final class IID {
+
+    private final ByteString bytes;
+    private final int hash;
+    private volatile String hex;
+
+    private IID(ByteString bytes) {
+        this.bytes = bytes;
+        this.hash = bytes.hashCode();
+    }
+
+    public static IID of(ByteString bytes) {
+        if (bytes == null || bytes.isEmpty()) throw new GraknClientException(MISSING_IID);
+        return new IID(bytes);
+    }
+
+    public static IID of(String hex) {
+        if (hex == null || hex.isEmpty()) throw new GraknClientException(MISSING_IID);
+        final IID iid = new IID(ByteString.copyFrom(hexStringToBytes(hex)));
+        iid.hex = hex;
+        return iid;
+    }
+
+    public ByteString bytes() {
+        return bytes;
+    }
+
+    public String toHexString() {
+        String hex = this.hex;
+        if (hex == null) {
+            hex = bytesToHexString(bytes.toByteArray());
+            this.hex = hex;
+        }
+        return hex;
+    }
+
+    @Override
+    public String toString() {
+        return toHexString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final IID that = (IID) o;
+        return this.hash == that.hash && this.bytes.equals(that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -22,6 +22,7 @@ package grakn.client.concept.thing;
 import grakn.client.Grakn;
 import grakn.client.concept.type.RelationType;
 import grakn.client.concept.type.RoleType;
+import grakn.client.rpc.QueryFuture;
 
 import java.util.List;
 import java.util.Map;
@@ -37,14 +38,24 @@ public interface Relation extends Thing {
         @Override
         RelationType getType();
 
+        @Override
+        QueryFuture<? extends RelationType> getTypeAsync();
+
         void addPlayer(RoleType roleType, Thing player);
 
+        QueryFuture<Void> addPlayerAsync(RoleType roleType, Thing player);
+
         void removePlayer(RoleType roleType, Thing player);
 
+        QueryFuture<Void> removePlayerAsync(RoleType roleType, Thing player);
+
         Stream<? extends Thing> getPlayers(RoleType... roleTypes);
 
         Map<? extends RoleType, ? extends List<? extends Thing>> getPlayersByRoleType();
 
+        /** Streams the players of this relation, each with the role it plays, as they arrive. */
+        Stream<? extends Map.Entry<? extends RoleType, ? extends Thing>> getRolePlayers();
+
         @Override
         Relation.Remote asRelation();
     }
@@ -24,13 +24,20 @@ import grakn.client.concept.Concept;
 import grakn.client.concept.type.AttributeType;
 import grakn.client.concept.type.RoleType;
 import grakn.client.concept.type.ThingType;
+import grakn.client.rpc.QueryFuture;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 public interface Thing extends Concept {
 
     String getIID();
 
+    IID iid();
+
+    /** The type of this thing, if the session already resolved it, so that it can be read without a round trip. */
+    Optional<? extends ThingType> knownType();
+
     Entity asEntity();
 
     Attribute<?> asAttribute();
@@ -44,12 +51,20 @@ public interface Thing extends Concept {
 
         ThingType getType();
 
+        QueryFuture<? extends ThingType> getTypeAsync();
+
         void setHas(Attribute<?> attribute);
 
+        QueryFuture<Void> setHasAsync(Attribute<?> attribute);
+
         void unsetHas(Attribute<?> attribute);
 
+        QueryFuture<Void> unsetHasAsync(Attribute<?> attribute);
+
         boolean isInferred();
 
+        QueryFuture<Boolean> isInferredAsync();
+
         Stream<? extends Attribute<?>> getHas(boolean onlyKey);
 
         Stream<? extends Attribute.Boolean> getHas(AttributeType.Boolean attributeType);
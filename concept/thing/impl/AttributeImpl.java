@@ -22,11 +22,16 @@ package grakn.client.concept.thing.impl;
 import grakn.client.Grakn;
 import grakn.client.common.exception.GraknClientException;
 import grakn.client.concept.thing.Attribute;
+import grakn.client.concept.thing.IID;
 import grakn.client.concept.type.ThingType;
 import grakn.client.concept.type.impl.AttributeTypeImpl;
+import grakn.client.concept.type.impl.TypeImpl;
+import grakn.client.concept.type.impl.TypeTable;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 import grakn.protocol.ConceptProto.Attribute.GetOwners;
 
+import javax.annotation.Nullable;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -35,27 +40,26 @@ import java.util.stream.Stream;
 import static grakn.client.common.exception.ErrorMessage.Concept.BAD_VALUE_TYPE;
 import static grakn.client.common.exception.ErrorMessage.Concept.INVALID_CONCEPT_CASTING;
 import static grakn.client.concept.proto.ConceptProtoBuilder.type;
-import static grakn.common.collection.Bytes.bytesToHexString;
 import static grakn.common.util.Objects.className;
 
 public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribute<VALUE> {
 
-    AttributeImpl(java.lang.String iid) {
-        super(iid);
+    AttributeImpl(IID iid, @Nullable TypeTable types) {
+        super(iid, types);
     }
 
-    public static AttributeImpl<?> of(ConceptProto.Thing thingProto) {
+    public static AttributeImpl<?> of(ConceptProto.Thing thingProto, @Nullable TypeTable types) {
         switch (thingProto.getValueType()) {
             case BOOLEAN:
-                return AttributeImpl.Boolean.of(thingProto);
+                return AttributeImpl.Boolean.of(thingProto, types);
             case LONG:
-                return AttributeImpl.Long.of(thingProto);
+                return AttributeImpl.Long.of(thingProto, types);
             case DOUBLE:
-                return AttributeImpl.Double.of(thingProto);
+                return AttributeImpl.Double.of(thingProto, types);
             case STRING:
-                return AttributeImpl.String.of(thingProto);
+                return AttributeImpl.String.of(thingProto, types);
             case DATETIME:
-                return AttributeImpl.DateTime.of(thingProto);
+                return AttributeImpl.DateTime.of(thingProto, types);
             case UNRECOGNIZED:
             default:
                 throw new GraknClientException(BAD_VALUE_TYPE.message(thingProto.getValueType()));
@@ -96,7 +100,7 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
     public abstract static class Remote<VALUE> extends ThingImpl.Remote implements Attribute.Remote<VALUE> {
 
-        Remote(Grakn.Transaction transaction, java.lang.String iid) {
+        Remote(Grakn.Transaction transaction, IID iid) {
             super(transaction, iid);
         }
 
@@ -120,7 +124,12 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         @Override
         public AttributeTypeImpl getType() {
-            return super.getType().asAttributeType();
+            return getTypeAsync().get();
+        }
+
+        @Override
+        public QueryFuture<? extends AttributeTypeImpl> getTypeAsync() {
+            return getTypeAsync(TypeImpl::asAttributeType);
         }
 
         @Override
@@ -160,15 +169,16 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         private final java.lang.Boolean value;
 
-        Boolean(java.lang.String iid, boolean value) {
-            super(iid);
+        Boolean(IID iid, boolean value, @Nullable TypeTable types) {
+            super(iid, types);
             this.value = value;
         }
 
-        public static AttributeImpl.Boolean of(ConceptProto.Thing thingProto) {
+        public static AttributeImpl.Boolean of(ConceptProto.Thing thingProto, @Nullable TypeTable types) {
             return new AttributeImpl.Boolean(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
-                    thingProto.getValue().getBoolean()
+                    IID.of(thingProto.getIid()),
+                    thingProto.getValue().getBoolean(),
+                    types
             );
         }
 
@@ -184,25 +194,25 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         @Override
         public AttributeImpl.Boolean.Remote asRemote(Grakn.Transaction transaction) {
-            return new AttributeImpl.Boolean.Remote(transaction, getIID(), value);
+            return new AttributeImpl.Boolean.Remote(transaction, iid(), value);
         }
 
         public static class Remote extends AttributeImpl.Remote<java.lang.Boolean> implements Attribute.Boolean.Remote {
 
             private final java.lang.Boolean value;
 
-            Remote(Grakn.Transaction transaction, java.lang.String iid, java.lang.Boolean value) {
+            Remote(Grakn.Transaction transaction, IID iid, java.lang.Boolean value) {
                 super(transaction, iid);
                 this.value = value;
             }
 
             public static AttributeImpl.Boolean.Remote of(Grakn.Transaction transaction, ConceptProto.Thing thingProto) {
-                return new AttributeImpl.Boolean.Remote(transaction, bytesToHexString(thingProto.getIid().toByteArray()), thingProto.getValue().getBoolean());
+                return new AttributeImpl.Boolean.Remote(transaction, IID.of(thingProto.getIid()), thingProto.getValue().getBoolean());
             }
 
             @Override
             public Attribute.Boolean.Remote asRemote(Grakn.Transaction transaction) {
-                return new AttributeImpl.Boolean.Remote(transaction, getIID(), value);
+                return new AttributeImpl.Boolean.Remote(transaction, iid(), value);
             }
 
             @Override
@@ -212,7 +222,12 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public AttributeTypeImpl.Boolean getType() {
-                return super.getType().asBoolean();
+                return getTypeAsync().get();
+            }
+
+            @Override
+            public QueryFuture<AttributeTypeImpl.Boolean> getTypeAsync() {
+                return getTypeAsync(type -> type.asAttributeType().asBoolean());
             }
 
             @Override
@@ -226,21 +241,22 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         private final long value;
 
-        Long(java.lang.String iid, long value) {
-            super(iid);
+        Long(IID iid, long value, @Nullable TypeTable types) {
+            super(iid, types);
             this.value = value;
         }
 
-        public static AttributeImpl.Long of(ConceptProto.Thing thingProto) {
+        public static AttributeImpl.Long of(ConceptProto.Thing thingProto, @Nullable TypeTable types) {
             return new AttributeImpl.Long(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
-                    thingProto.getValue().getLong()
+                    IID.of(thingProto.getIid()),
+                    thingProto.getValue().getLong(),
+                    types
             );
         }
 
         @Override
         public AttributeImpl.Long.Remote asRemote(Grakn.Transaction transaction) {
-            return new AttributeImpl.Long.Remote(transaction, getIID(), value);
+            return new AttributeImpl.Long.Remote(transaction, iid(), value);
         }
 
         @Override
@@ -257,18 +273,18 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             private final long value;
 
-            Remote(Grakn.Transaction transaction, java.lang.String iid, long value) {
+            Remote(Grakn.Transaction transaction, IID iid, long value) {
                 super(transaction, iid);
                 this.value = value;
             }
 
             public static AttributeImpl.Long.Remote of(Grakn.Transaction transaction, ConceptProto.Thing thingProto) {
-                return new AttributeImpl.Long.Remote(transaction, bytesToHexString(thingProto.getIid().toByteArray()), thingProto.getValue().getLong());
+                return new AttributeImpl.Long.Remote(transaction, IID.of(thingProto.getIid()), thingProto.getValue().getLong());
             }
 
             @Override
             public Attribute.Long.Remote asRemote(Grakn.Transaction transaction) {
-                return new AttributeImpl.Long.Remote(transaction, getIID(), value);
+                return new AttributeImpl.Long.Remote(transaction, iid(), value);
             }
 
             @Override
@@ -278,7 +294,12 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public AttributeTypeImpl.Long getType() {
-                return super.getType().asLong();
+                return getTypeAsync().get();
+            }
+
+            @Override
+            public QueryFuture<AttributeTypeImpl.Long> getTypeAsync() {
+                return getTypeAsync(type -> type.asAttributeType().asLong());
             }
 
             @Override
@@ -292,21 +313,22 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         private final double value;
 
-        Double(java.lang.String iid, double value) {
-            super(iid);
+        Double(IID iid, double value, @Nullable TypeTable types) {
+            super(iid, types);
             this.value = value;
         }
 
-        public static AttributeImpl.Double of(ConceptProto.Thing thingProto) {
+        public static AttributeImpl.Double of(ConceptProto.Thing thingProto, @Nullable TypeTable types) {
             return new AttributeImpl.Double(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
-                    thingProto.getValue().getDouble()
+                    IID.of(thingProto.getIid()),
+                    thingProto.getValue().getDouble(),
+                    types
             );
         }
 
         @Override
         public AttributeImpl.Double.Remote asRemote(Grakn.Transaction transaction) {
-            return new AttributeImpl.Double.Remote(transaction, getIID(), value);
+            return new AttributeImpl.Double.Remote(transaction, iid(), value);
         }
 
         @Override
@@ -323,18 +345,18 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             private final double value;
 
-            Remote(Grakn.Transaction transaction, java.lang.String iid, double value) {
+            Remote(Grakn.Transaction transaction, IID iid, double value) {
                 super(transaction, iid);
                 this.value = value;
             }
 
             public static AttributeImpl.Double.Remote of(Grakn.Transaction transaction, ConceptProto.Thing thingProto) {
-                return new AttributeImpl.Double.Remote(transaction, bytesToHexString(thingProto.getIid().toByteArray()), thingProto.getValue().getDouble());
+                return new AttributeImpl.Double.Remote(transaction, IID.of(thingProto.getIid()), thingProto.getValue().getDouble());
             }
 
             @Override
             public Attribute.Double.Remote asRemote(Grakn.Transaction transaction) {
-                return new AttributeImpl.Double.Remote(transaction, getIID(), value);
+                return new AttributeImpl.Double.Remote(transaction, iid(), value);
             }
 
             @Override
@@ -344,7 +366,12 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public AttributeTypeImpl.Double getType() {
-                return super.getType().asDouble();
+                return getTypeAsync().get();
+            }
+
+            @Override
+            public QueryFuture<AttributeTypeImpl.Double> getTypeAsync() {
+                return getTypeAsync(type -> type.asAttributeType().asDouble());
             }
 
             @Override
@@ -358,21 +385,22 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         private final java.lang.String value;
 
-        String(java.lang.String iid, java.lang.String value) {
-            super(iid);
+        String(IID iid, java.lang.String value, @Nullable TypeTable types) {
+            super(iid, types);
             this.value = value;
         }
 
-        public static AttributeImpl.String of(ConceptProto.Thing thingProto) {
+        public static AttributeImpl.String of(ConceptProto.Thing thingProto, @Nullable TypeTable types) {
             return new AttributeImpl.String(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
-                    thingProto.getValue().getString()
+                    IID.of(thingProto.getIid()),
+                    thingProto.getValue().getString(),
+                    types
             );
         }
 
         @Override
         public AttributeImpl.String.Remote asRemote(Grakn.Transaction transaction) {
-            return new AttributeImpl.String.Remote(transaction, getIID(), value);
+            return new AttributeImpl.String.Remote(transaction, iid(), value);
         }
 
         @Override
@@ -389,13 +417,13 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             private final java.lang.String value;
 
-            Remote(Grakn.Transaction transaction, java.lang.String iid, java.lang.String value) {
+            Remote(Grakn.Transaction transaction, IID iid, java.lang.String value) {
                 super(transaction, iid);
                 this.value = value;
             }
 
             public static AttributeImpl.String.Remote of(Grakn.Transaction transaction, ConceptProto.Thing thingProto) {
-                return new AttributeImpl.String.Remote(transaction, bytesToHexString(thingProto.getIid().toByteArray()), thingProto.getValue().getString());
+                return new AttributeImpl.String.Remote(transaction, IID.of(thingProto.getIid()), thingProto.getValue().getString());
             }
 
             @Override
@@ -405,12 +433,17 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public Attribute.String.Remote asRemote(Grakn.Transaction transaction) {
-                return new AttributeImpl.String.Remote(transaction, getIID(), value);
+                return new AttributeImpl.String.Remote(transaction, iid(), value);
             }
 
             @Override
             public AttributeTypeImpl.String getType() {
-                return super.getType().asString();
+                return getTypeAsync().get();
+            }
+
+            @Override
+            public QueryFuture<AttributeTypeImpl.String> getTypeAsync() {
+                return getTypeAsync(type -> type.asAttributeType().asString());
             }
 
             @Override
@@ -424,21 +457,22 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
         private final LocalDateTime value;
 
-        DateTime(java.lang.String iid, LocalDateTime value) {
-            super(iid);
+        DateTime(IID iid, LocalDateTime value, @Nullable TypeTable types) {
+            super(iid, types);
             this.value = value;
         }
 
-        public static AttributeImpl.DateTime of(ConceptProto.Thing thingProto) {
+        public static AttributeImpl.DateTime of(ConceptProto.Thing thingProto, @Nullable TypeTable types) {
             return new AttributeImpl.DateTime(
-                    bytesToHexString(thingProto.getIid().toByteArray()),
-                    toLocalDateTime(thingProto.getValue().getDateTime())
+                    IID.of(thingProto.getIid()),
+                    toLocalDateTime(thingProto.getValue().getDateTime()),
+                    types
             );
         }
 
         @Override
         public AttributeImpl.DateTime.Remote asRemote(Grakn.Transaction transaction) {
-            return new AttributeImpl.DateTime.Remote(transaction, getIID(), value);
+            return new AttributeImpl.DateTime.Remote(transaction, iid(), value);
         }
 
         @Override
@@ -459,18 +493,18 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             private final LocalDateTime value;
 
-            Remote(Grakn.Transaction transaction, java.lang.String iid, LocalDateTime value) {
+            Remote(Grakn.Transaction transaction, IID iid, LocalDateTime value) {
                 super(transaction, iid);
                 this.value = value;
             }
 
             public static AttributeImpl.DateTime.Remote of(Grakn.Transaction transaction, ConceptProto.Thing thingProto) {
-                return new AttributeImpl.DateTime.Remote(transaction, bytesToHexString(thingProto.getIid().toByteArray()), toLocalDateTime(thingProto.getValue().getDateTime()));
+                return new AttributeImpl.DateTime.Remote(transaction, IID.of(thingProto.getIid()), toLocalDateTime(thingProto.getValue().getDateTime()));
             }
 
             @Override
             public Attribute.DateTime.Remote asRemote(Grakn.Transaction transaction) {
-                return new AttributeImpl.DateTime.Remote(transaction, getIID(), value);
+                return new AttributeImpl.DateTime.Remote(transaction, iid(), value);
             }
 
             @Override
@@ -480,7 +514,12 @@ public abstract class AttributeImpl<VALUE> extends ThingImpl implements Attribut
 
             @Override
             public AttributeTypeImpl.DateTime getType() {
-                return super.getType().asDateTime();
+                return getTypeAsync().get();
+            }
+
+            @Override
+            public QueryFuture<AttributeTypeImpl.DateTime> getTypeAsync() {
+                return getTypeAsync(type -> type.asAttributeType().asDateTime());
             }
 
             @Override
@@ -21,23 +21,28 @@ package grakn.client.concept.thing.impl;
 
 import grakn.client.Grakn;
 import grakn.client.concept.thing.Entity;
+import grakn.client.concept.thing.IID;
 import grakn.client.concept.type.impl.EntityTypeImpl;
-import grakn.common.collection.Bytes;
+import grakn.client.concept.type.impl.TypeImpl;
+import grakn.client.concept.type.impl.TypeTable;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 
+import javax.annotation.Nullable;
+
 public class EntityImpl extends ThingImpl implements Entity {
 
-    EntityImpl(String iid) {
-        super(iid);
+    EntityImpl(IID iid, @Nullable TypeTable types) {
+        super(iid, types);
     }
 
-    public static EntityImpl of(ConceptProto.Thing protoThing) {
-        return new EntityImpl(Bytes.bytesToHexString(protoThing.getIid().toByteArray()));
+    public static EntityImpl of(ConceptProto.Thing protoThing, @Nullable TypeTable types) {
+        return new EntityImpl(IID.of(protoThing.getIid()), types);
     }
 
     @Override
     public EntityImpl.Remote asRemote(Grakn.Transaction transaction) {
-        return new EntityImpl.Remote(transaction, getIID());
+        return new EntityImpl.Remote(transaction, iid());
     }
 
     @Override
@@ -48,17 +53,26 @@ public class EntityImpl extends ThingImpl implements Entity {
     public static class Remote extends ThingImpl.Remote implements Entity.Remote {
 
         public Remote(Grakn.Transaction transaction, String iid) {
+            this(transaction, IID.of(iid));
+        }
+
+        public Remote(Grakn.Transaction transaction, IID iid) {
             super(transaction, iid);
         }
 
         @Override
         public EntityImpl.Remote asRemote(Grakn.Transaction transaction) {
-            return new EntityImpl.Remote(transaction, getIID());
+            return new EntityImpl.Remote(transaction, iid());
         }
 
         @Override
         public EntityTypeImpl getType() {
-            return super.getType().asEntityType();
+            return getTypeAsync().get();
+        }
+
+        @Override
+        public QueryFuture<EntityTypeImpl> getTypeAsync() {
+            return getTypeAsync(TypeImpl::asEntityType);
         }
 
         @Override
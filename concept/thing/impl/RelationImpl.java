@@ -20,45 +20,69 @@
 package grakn.client.concept.thing.impl;
 
 import grakn.client.Grakn;
+import grakn.client.concept.thing.IID;
 import grakn.client.concept.thing.Relation;
 import grakn.client.concept.thing.Thing;
 import grakn.client.concept.type.RoleType;
 import grakn.client.concept.type.impl.RelationTypeImpl;
 import grakn.client.concept.type.impl.RoleTypeImpl;
 import grakn.client.concept.type.impl.TypeImpl;
-import grakn.common.collection.Bytes;
+import grakn.client.concept.type.impl.TypeTable;
+import grakn.client.rpc.QueryFuture;
+import grakn.client.rpc.RPCTransaction;
 import grakn.protocol.ConceptProto;
 import grakn.protocol.ConceptProto.Relation.AddPlayer;
 import grakn.protocol.ConceptProto.Relation.GetPlayers;
 import grakn.protocol.ConceptProto.Relation.RemovePlayer;
 import grakn.protocol.TransactionProto;
 
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
-import static grakn.client.concept.proto.ConceptProtoBuilder.iid;
 import static grakn.client.concept.proto.ConceptProtoBuilder.thing;
 import static grakn.client.concept.proto.ConceptProtoBuilder.type;
 import static grakn.client.concept.proto.ConceptProtoBuilder.types;
 
 public class RelationImpl extends ThingImpl implements Relation {
 
-    RelationImpl(String iid) {
-        super(iid);
+    RelationImpl(IID iid, @Nullable TypeTable types) {
+        super(iid, types);
     }
 
-    public static RelationImpl of(ConceptProto.Thing protoThing) {
-        return new RelationImpl(Bytes.bytesToHexString(protoThing.getIid().toByteArray()));
+    /**
+     * Streams the players of the relation with the given IID, each with the role it plays. The request is sent
+     * immediately, and the stream only reads its responses.
+     */
+    public static Stream<Map.Entry<RoleTypeImpl, ThingImpl>> getRolePlayers(RPCTransaction transaction, IID iid) {
+        final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
+                .setThingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes()).setRelationGetPlayersByRoleTypeReq(
+                        ConceptProto.Relation.GetPlayersByRoleType.Req.getDefaultInstance()));
+        return transaction.stream(request, res -> res.getThingRes().getRelationGetPlayersByRoleTypeRes().getRoleTypeWithPlayerList()
+                .stream().<Map.Entry<RoleTypeImpl, ThingImpl>>map(rolePlayer -> new AbstractMap.SimpleImmutableEntry<>(
+                        transaction.types().get(rolePlayer.getRoleType()).asRoleType(),
+                        ThingImpl.of(rolePlayer.getPlayer(), transaction.types()))));
+    }
+
+    /** Groups role players by their role, as they are read. */
+    public static Map<RoleTypeImpl, List<ThingImpl>> playersByRoleType(Stream<Map.Entry<RoleTypeImpl, ThingImpl>> rolePlayers) {
+        final Map<RoleTypeImpl, List<ThingImpl>> players = new HashMap<>();
+        rolePlayers.forEach(rolePlayer -> players.computeIfAbsent(rolePlayer.getKey(), role -> new ArrayList<>()).add(rolePlayer.getValue()));
+        return players;
+    }
+
+    public static RelationImpl of(ConceptProto.Thing protoThing, @Nullable TypeTable types) {
+        return new RelationImpl(IID.of(protoThing.getIid()), types);
     }
 
     @Override
     public RelationImpl.Remote asRemote(Grakn.Transaction transaction) {
-        return new RelationImpl.Remote(transaction, getIID());
+        return new RelationImpl.Remote(transaction, iid());
     }
 
     @Override
@@ -69,45 +93,36 @@ public class RelationImpl extends ThingImpl implements Relation {
     public static class Remote extends ThingImpl.Remote implements Relation.Remote {
 
         public Remote(Grakn.Transaction transaction, String iid) {
+            this(transaction, IID.of(iid));
+        }
+
+        public Remote(Grakn.Transaction transaction, IID iid) {
             super(transaction, iid);
         }
 
         @Override
         public RelationImpl.Remote asRemote(Grakn.Transaction transaction) {
-            return new RelationImpl.Remote(transaction, getIID());
+            return new RelationImpl.Remote(transaction, iid());
         }
 
         @Override
         public RelationTypeImpl getType() {
-            return super.getType().asRelationType();
+            return getTypeAsync().get();
+        }
+
+        @Override
+        public QueryFuture<RelationTypeImpl> getTypeAsync() {
+            return getTypeAsync(TypeImpl::asRelationType);
         }
 
         @Override
         public Map<RoleTypeImpl, List<ThingImpl>> getPlayersByRoleType() {
-            final ConceptProto.Thing.Req.Builder method = ConceptProto.Thing.Req.newBuilder()
-                    .setRelationGetPlayersByRoleTypeReq(ConceptProto.Relation.GetPlayersByRoleType.Req.getDefaultInstance());
-
-            final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
-                    .setThingReq(method.setIid(iid(getIID())));
-            final Stream<ConceptProto.Relation.GetPlayersByRoleType.RoleTypeWithPlayer> stream = rpcTransaction.stream(
-                    request, res -> res.getThingRes().getRelationGetPlayersByRoleTypeRes().getRoleTypeWithPlayerList().stream());
-
-            final Map<RoleTypeImpl, List<ThingImpl>> rolePlayerMap = new HashMap<>();
-            stream.forEach(rolePlayer -> {
-                final RoleTypeImpl role = TypeImpl.of(rolePlayer.getRoleType()).asRoleType();
-                final ThingImpl player = ThingImpl.of(rolePlayer.getPlayer());
-                if (rolePlayerMap.containsKey(role)) {
-                    rolePlayerMap.get(role).add(player);
-                } else {
-                    rolePlayerMap.put(role, new ArrayList<>(Collections.singletonList(player)));
-                }
-            });
-
-            final Map<RoleTypeImpl, List<ThingImpl>> result = new HashMap<>();
-            for (Map.Entry<RoleTypeImpl, List<ThingImpl>> entry : rolePlayerMap.entrySet()) {
-                result.put(entry.getKey(), entry.getValue());
-            }
-            return result;
+            return playersByRoleType(getRolePlayers());
+        }
+
+        @Override
+        public Stream<Map.Entry<RoleTypeImpl, ThingImpl>> getRolePlayers() {
+            return RelationImpl.getRolePlayers(rpcTransaction, iid());
         }
 
         @Override
@@ -120,14 +135,24 @@ public class RelationImpl extends ThingImpl implements Relation {
 
         @Override
         public void addPlayer(RoleType roleType, Thing player) {
-            execute(ConceptProto.Thing.Req.newBuilder().setRelationAddPlayerReq(
-                    AddPlayer.Req.newBuilder().setRoleType(type(roleType)).setPlayer(thing(player))));
+            addPlayerAsync(roleType, player).get();
+        }
+
+        @Override
+        public QueryFuture<Void> addPlayerAsync(RoleType roleType, Thing player) {
+            return executeAsync(ConceptProto.Thing.Req.newBuilder().setRelationAddPlayerReq(
+                    AddPlayer.Req.newBuilder().setRoleType(type(roleType)).setPlayer(thing(player))), res -> null);
         }
 
         @Override
         public void removePlayer(RoleType roleType, Thing player) {
-            execute(ConceptProto.Thing.Req.newBuilder().setRelationRemovePlayerReq(
-                    RemovePlayer.Req.newBuilder().setRoleType(type(roleType)).setPlayer(thing(player))));
+            removePlayerAsync(roleType, player).get();
+        }
+
+        @Override
+        public QueryFuture<Void> removePlayerAsync(RoleType roleType, Thing player) {
+            return executeAsync(ConceptProto.Thing.Req.newBuilder().setRelationRemovePlayerReq(
+                    RemovePlayer.Req.newBuilder().setRoleType(type(roleType)).setPlayer(thing(player))), res -> null);
         }
 
         @Override
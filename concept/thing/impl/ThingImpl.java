@@ -23,6 +23,7 @@ import grakn.client.Grakn;
 import grakn.client.common.exception.GraknClientException;
 import grakn.client.concept.thing.Attribute;
 import grakn.client.concept.thing.Entity;
+import grakn.client.concept.thing.IID;
 import grakn.client.concept.thing.Relation;
 import grakn.client.concept.thing.Thing;
 import grakn.client.concept.type.AttributeType;
@@ -31,6 +32,8 @@ import grakn.client.concept.type.Type;
 import grakn.client.concept.type.impl.RoleTypeImpl;
 import grakn.client.concept.type.impl.ThingTypeImpl;
 import grakn.client.concept.type.impl.TypeImpl;
+import grakn.client.concept.type.impl.TypeTable;
+import grakn.client.rpc.QueryFuture;
 import grakn.client.rpc.RPCTransaction;
 import grakn.protocol.ConceptProto;
 import grakn.protocol.ConceptProto.Thing.Delete;
@@ -39,9 +42,11 @@ import grakn.protocol.ConceptProto.Thing.GetRelations;
 import grakn.protocol.ConceptProto.Thing.UnsetHas;
 import grakn.protocol.TransactionProto;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -49,43 +54,73 @@ import static grakn.client.common.exception.ErrorMessage.Concept.INVALID_CONCEPT
 import static grakn.client.common.exception.ErrorMessage.Concept.MISSING_IID;
 import static grakn.client.common.exception.ErrorMessage.Concept.MISSING_TRANSACTION;
 import static grakn.client.common.exception.ErrorMessage.Concept.BAD_ENCODING;
-import static grakn.client.concept.proto.ConceptProtoBuilder.iid;
 import static grakn.client.concept.proto.ConceptProtoBuilder.thing;
 import static grakn.client.concept.proto.ConceptProtoBuilder.types;
 import static grakn.common.util.Objects.className;
 
 public abstract class ThingImpl implements Thing {
 
-    private final String iid;
-    // TODO: private final ThingType type;
-    // We need to store the concept Type, but we need a better way of retrieving it (currently requires a 2nd roundtrip)
-    // In 1.8 it was in a "pre-filled response" in ConceptProto.Concept, which was confusing as it was
-    // not actually prefilled when using the Concept API - only when using the Query API.
+    private final IID iid;
+    // The protocol does not send a thing's type, so it is read from the session's table of resolved thing types
+    @Nullable
+    private final TypeTable types;
 
-    ThingImpl(String iid) {
-        if (iid == null || iid.isEmpty()) throw new GraknClientException(MISSING_IID);
+    ThingImpl(IID iid, @Nullable TypeTable types) {
+        if (iid == null) throw new GraknClientException(MISSING_IID);
         this.iid = iid;
+        this.types = types;
     }
 
     public static ThingImpl of(ConceptProto.Thing thingProto) {
+        return of(thingProto, null);
+    }
+
+    public static ThingImpl of(ConceptProto.Thing thingProto, @Nullable TypeTable types) {
         switch (thingProto.getEncoding()) {
             case ENTITY:
-                return EntityImpl.of(thingProto);
+                return EntityImpl.of(thingProto, types);
             case RELATION:
-                return RelationImpl.of(thingProto);
+                return RelationImpl.of(thingProto, types);
             case ATTRIBUTE:
-                return AttributeImpl.of(thingProto);
+                return AttributeImpl.of(thingProto, types);
             case UNRECOGNIZED:
             default:
                 throw new GraknClientException(BAD_ENCODING.message(thingProto.getEncoding()));
         }
     }
 
+    /**
+     * Returns the type of the thing with the given IID: from the session's type table if the session resolved it
+     * before, and otherwise from the server, after which it is added to the table.
+     */
+    public static QueryFuture<ThingTypeImpl> resolveType(RPCTransaction transaction, IID iid) {
+        final ThingTypeImpl known = transaction.types().thingType(iid);
+        if (known != null) return QueryFuture.completed(known);
+        final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
+                .setThingReq(ConceptProto.Thing.Req.newBuilder().setIid(iid.bytes())
+                        .setThingGetTypeReq(ConceptProto.Thing.GetType.Req.getDefaultInstance()));
+        return transaction.executeAsync(request, res -> {
+            final ThingTypeImpl type = transaction.types().get(res.getThingRes().getThingGetTypeRes().getThingType()).asThingType();
+            transaction.types().putThingType(iid, type);
+            return type;
+        });
+    }
+
     @Override
     public final String getIID() {
+        return iid.toHexString();
+    }
+
+    @Override
+    public final IID iid() {
         return iid;
     }
 
+    @Override
+    public final Optional<ThingTypeImpl> knownType() {
+        return types != null ? Optional.ofNullable(types.thingType(iid)) : Optional.empty();
+    }
+
     @Override
     public boolean isRemote() {
         return false;
@@ -138,33 +173,55 @@ public abstract class ThingImpl implements Thing {
     public abstract static class Remote implements Thing.Remote {
 
         final RPCTransaction rpcTransaction;
-        private final String iid;
+        private final IID iid;
         private final int hash;
 
-        Remote(Grakn.Transaction transaction, String iid) {
+        Remote(Grakn.Transaction transaction, IID iid) {
             if (transaction == null) throw new GraknClientException(MISSING_TRANSACTION);
             this.rpcTransaction = (RPCTransaction) transaction;
-            if (iid == null || iid.isEmpty()) throw new GraknClientException(MISSING_IID);
+            if (iid == null) throw new GraknClientException(MISSING_IID);
             this.iid = iid;
-            this.hash = Objects.hash(this.rpcTransaction, this.getIID());
+            this.hash = Objects.hash(this.rpcTransaction, this.iid);
         }
 
         @Override
         public final String getIID() {
+            return iid.toHexString();
+        }
+
+        @Override
+        public final IID iid() {
             return iid;
         }
 
+        @Override
+        public final Optional<ThingTypeImpl> knownType() {
+            return Optional.ofNullable(rpcTransaction.types().thingType(iid));
+        }
+
         public ThingTypeImpl getType() {
-            final ConceptProto.Thing.Req.Builder method = ConceptProto.Thing.Req.newBuilder()
-                    .setThingGetTypeReq(ConceptProto.Thing.GetType.Req.getDefaultInstance());
-            return TypeImpl.of(execute(method).getThingGetTypeRes().getThingType()).asThingType();
+            return getTypeAsync().get();
+        }
+
+        @Override
+        public QueryFuture<? extends ThingTypeImpl> getTypeAsync() {
+            return getTypeAsync(TypeImpl::asThingType);
+        }
+
+        protected final <TYPE extends ThingTypeImpl> QueryFuture<TYPE> getTypeAsync(Function<TypeImpl, TYPE> typeConstructor) {
+            return resolveType(rpcTransaction, iid).map(typeConstructor);
         }
 
         @Override
         public final boolean isInferred() {
+            return isInferredAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Boolean> isInferredAsync() {
             final ConceptProto.Thing.Req.Builder method = ConceptProto.Thing.Req.newBuilder()
                     .setThingIsInferredReq(ConceptProto.Thing.IsInferred.Req.getDefaultInstance());
-            return execute(method).getThingIsInferredRes().getInferred();
+            return executeAsync(method, res -> res.getThingIsInferredRes().getInferred());
         }
 
         @Override
@@ -227,26 +284,41 @@ public abstract class ThingImpl implements Thing {
 
         @Override
         public final void setHas(Attribute<?> attribute) {
-            execute(ConceptProto.Thing.Req.newBuilder().setThingSetHasReq(
+            setHasAsync(attribute).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setHasAsync(Attribute<?> attribute) {
+            return executeAsync(ConceptProto.Thing.Req.newBuilder().setThingSetHasReq(
                     ConceptProto.Thing.SetHas.Req.newBuilder().setAttribute(thing(attribute))
-            ));
+            ), res -> null);
         }
 
         @Override
         public final void unsetHas(Attribute<?> attribute) {
-            execute(ConceptProto.Thing.Req.newBuilder().setThingUnsetHasReq(
+            unsetHasAsync(attribute).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetHasAsync(Attribute<?> attribute) {
+            return executeAsync(ConceptProto.Thing.Req.newBuilder().setThingUnsetHasReq(
                     UnsetHas.Req.newBuilder().setAttribute(thing(attribute))
-            ));
+            ), res -> null);
         }
 
         @Override
         public final void delete() {
-            execute(ConceptProto.Thing.Req.newBuilder().setThingDeleteReq(Delete.Req.getDefaultInstance()));
+            deleteAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Void> deleteAsync() {
+            return executeAsync(ConceptProto.Thing.Req.newBuilder().setThingDeleteReq(Delete.Req.getDefaultInstance()), res -> null);
         }
 
         @Override
         public final boolean isDeleted() {
-            return rpcTransaction.concepts().getThing(getIID()) == null;
+            return rpcTransaction.concepts().getThing(iid) == null;
         }
 
         @Override
@@ -285,22 +357,28 @@ public abstract class ThingImpl implements Thing {
 
         Stream<ThingImpl> stream(ConceptProto.Thing.Req.Builder method, Function<ConceptProto.Thing.Res, List<ConceptProto.Thing>> thingGetter) {
             final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
-                    .setThingReq(method.setIid(iid(iid)));
-            return rpcTransaction.stream(request, res -> thingGetter.apply(res.getThingRes()).stream().map(ThingImpl::of));
+                    .setThingReq(method.setIid(iid.bytes()));
+            return rpcTransaction.stream(request, res -> thingGetter.apply(res.getThingRes()).stream().map(thing -> ThingImpl.of(thing, rpcTransaction.types())));
         }
 
         Stream<TypeImpl> typeStream(ConceptProto.Thing.Req.Builder method, Function<ConceptProto.Thing.Res, List<ConceptProto.Type>> typeGetter) {
             final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
-                    .setThingReq(method.setIid(iid(iid)));
-            return rpcTransaction.stream(request, res -> typeGetter.apply(res.getThingRes()).stream().map(TypeImpl::of));
+                    .setThingReq(method.setIid(iid.bytes()));
+            return rpcTransaction.stream(request, res -> typeGetter.apply(res.getThingRes()).stream().map(rpcTransaction.types()::get));
         }
 
         ConceptProto.Thing.Res execute(ConceptProto.Thing.Req.Builder method) {
             final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
-                    .setThingReq(method.setIid(iid(iid)));
+                    .setThingReq(method.setIid(iid.bytes()));
             return rpcTransaction.execute(request).getThingRes();
         }
 
+        <T> QueryFuture<T> executeAsync(ConceptProto.Thing.Req.Builder method, Function<ConceptProto.Thing.Res, T> transform) {
+            final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
+                    .setThingReq(method.setIid(iid.bytes()));
+            return rpcTransaction.executeAsync(request, res -> transform.apply(res.getThingRes()));
+        }
+
         @Override
         public String toString() {
             return className(this.getClass()) + "[iid:" + iid + "]";
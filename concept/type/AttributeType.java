@@ -22,6 +22,7 @@ package grakn.client.concept.type;
 import grakn.client.Grakn;
 import grakn.client.common.exception.GraknClientException;
 import grakn.client.concept.thing.Attribute;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 
 import javax.annotation.Nullable;
@@ -117,9 +118,14 @@ public interface AttributeType extends ThingType {
 
         void setSupertype(AttributeType type);
 
+        QueryFuture<Void> setSupertypeAsync(AttributeType type);
+
         @Override
         AttributeType getSupertype();
 
+        @Override
+        QueryFuture<? extends AttributeType> getSupertypeAsync();
+
         @Override
         Stream<? extends AttributeType> getSupertypes();
 
@@ -161,9 +167,14 @@ public interface AttributeType extends ThingType {
 
             void setSupertype(AttributeType.Boolean type);
 
+            QueryFuture<Void> setSupertypeAsync(AttributeType.Boolean type);
+
             @Override
             AttributeType.Boolean getSupertype();
 
+            @Override
+            QueryFuture<? extends AttributeType.Boolean> getSupertypeAsync();
+
             @Override
             Stream<? extends AttributeType.Boolean> getSupertypes();
 
@@ -175,8 +186,12 @@ public interface AttributeType extends ThingType {
 
             Attribute.Boolean put(boolean value);
 
+            QueryFuture<? extends Attribute.Boolean> putAsync(boolean value);
+
             @Nullable
             Attribute.Boolean get(boolean value);
+
+            QueryFuture<? extends Attribute.Boolean> getAsync(boolean value);
         }
     }
 
@@ -189,9 +204,14 @@ public interface AttributeType extends ThingType {
 
             void setSupertype(AttributeType.Long type);
 
+            QueryFuture<Void> setSupertypeAsync(AttributeType.Long type);
+
             @Override
             AttributeType.Long getSupertype();
 
+            @Override
+            QueryFuture<? extends AttributeType.Long> getSupertypeAsync();
+
             @Override
             Stream<? extends AttributeType.Long> getSupertypes();
 
@@ -203,8 +223,12 @@ public interface AttributeType extends ThingType {
 
             Attribute.Long put(long value);
 
+            QueryFuture<? extends Attribute.Long> putAsync(long value);
+
             @Nullable
             Attribute.Long get(long value);
+
+            QueryFuture<? extends Attribute.Long> getAsync(long value);
         }
     }
 
@@ -217,9 +241,14 @@ public interface AttributeType extends ThingType {
 
             void setSupertype(AttributeType.Double type);
 
+            QueryFuture<Void> setSupertypeAsync(AttributeType.Double type);
+
             @Override
             AttributeType.Double getSupertype();
 
+            @Override
+            QueryFuture<? extends AttributeType.Double> getSupertypeAsync();
+
             @Override
             Stream<? extends AttributeType.Double> getSupertypes();
 
@@ -231,8 +260,12 @@ public interface AttributeType extends ThingType {
 
             Attribute.Double put(double value);
 
+            QueryFuture<? extends Attribute.Double> putAsync(double value);
+
             @Nullable
             Attribute.Double get(double value);
+
+            QueryFuture<? extends Attribute.Double> getAsync(double value);
         }
     }
 
@@ -245,9 +278,14 @@ public interface AttributeType extends ThingType {
 
             void setSupertype(AttributeType.String type);
 
+            QueryFuture<Void> setSupertypeAsync(AttributeType.String type);
+
             @Override
             AttributeType.String getSupertype();
 
+            @Override
+            QueryFuture<? extends AttributeType.String> getSupertypeAsync();
+
             @Override
             Stream<? extends AttributeType.String> getSupertypes();
 
@@ -259,13 +297,21 @@ public interface AttributeType extends ThingType {
 
             Attribute.String put(java.lang.String value);
 
+            QueryFuture<? extends Attribute.String> putAsync(java.lang.String value);
+
             @Nullable
             Attribute.String get(java.lang.String value);
 
+            QueryFuture<? extends Attribute.String> getAsync(java.lang.String value);
+
             @Nullable
             java.lang.String getRegex();
 
+            QueryFuture<java.lang.String> getRegexAsync();
+
             void setRegex(java.lang.String regex);
+
+            QueryFuture<Void> setRegexAsync(java.lang.String regex);
         }
     }
 
@@ -278,9 +324,14 @@ public interface AttributeType extends ThingType {
 
             void setSupertype(AttributeType.DateTime type);
 
+            QueryFuture<Void> setSupertypeAsync(AttributeType.DateTime type);
+
             @Override
             AttributeType.DateTime getSupertype();
 
+            @Override
+            QueryFuture<? extends AttributeType.DateTime> getSupertypeAsync();
+
             @Override
             Stream<? extends AttributeType.DateTime> getSupertypes();
 
@@ -292,8 +343,12 @@ public interface AttributeType extends ThingType {
 
             Attribute.DateTime put(LocalDateTime value);
 
+            QueryFuture<? extends Attribute.DateTime> putAsync(LocalDateTime value);
+
             @Nullable
             Attribute.DateTime get(LocalDateTime value);
+
+            QueryFuture<? extends Attribute.DateTime> getAsync(LocalDateTime value);
         }
     }
 }
@@ -21,6 +21,7 @@ package grakn.client.concept.type;
 
 import grakn.client.Grakn;
 import grakn.client.concept.thing.Entity;
+import grakn.client.rpc.QueryFuture;
 
 import java.util.stream.Stream;
 
@@ -33,11 +34,18 @@ public interface EntityType extends ThingType {
 
         Entity create();
 
+        QueryFuture<? extends Entity> createAsync();
+
         void setSupertype(EntityType superEntityType);
 
+        QueryFuture<Void> setSupertypeAsync(EntityType superEntityType);
+
         @Override
         EntityType getSupertype();
 
+        @Override
+        QueryFuture<? extends EntityType> getSupertypeAsync();
+
         @Override
         Stream<? extends EntityType> getSupertypes();
 
@@ -21,6 +21,7 @@ package grakn.client.concept.type;
 
 import grakn.client.Grakn;
 import grakn.client.concept.thing.Relation;
+import grakn.client.rpc.QueryFuture;
 
 import javax.annotation.Nullable;
 import java.util.stream.Stream;
@@ -34,19 +35,37 @@ public interface RelationType extends ThingType {
 
         Relation create();
 
+        QueryFuture<? extends Relation> createAsync();
+
         void setSupertype(RelationType superRelationType);
 
+        QueryFuture<Void> setSupertypeAsync(RelationType superRelationType);
+
+        @Override
+        RelationType getSupertype();
+
+        @Override
+        QueryFuture<? extends RelationType> getSupertypeAsync();
+
         @Nullable
         RoleType getRelates(String roleLabel);
 
+        QueryFuture<? extends RoleType> getRelatesAsync(String roleLabel);
+
         Stream<? extends RoleType> getRelates();
 
         void setRelates(String roleLabel);
 
+        QueryFuture<Void> setRelatesAsync(String roleLabel);
+
         void setRelates(String roleLabel, String overriddenLabel);
 
+        QueryFuture<Void> setRelatesAsync(String roleLabel, String overriddenLabel);
+
         void unsetRelates(String roleLabel);
 
+        QueryFuture<Void> unsetRelatesAsync(String roleLabel);
+
         @Override
         Stream<? extends RelationType> getSupertypes();
 
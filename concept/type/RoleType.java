@@ -20,6 +20,7 @@
 package grakn.client.concept.type;
 
 import grakn.client.Grakn;
+import grakn.client.rpc.QueryFuture;
 
 import java.util.stream.Stream;
 
@@ -35,6 +36,9 @@ public interface RoleType extends Type {
         @Override
         RoleType getSupertype();
 
+        @Override
+        QueryFuture<? extends RoleType> getSupertypeAsync();
+
         @Override
         Stream<? extends RoleType> getSupertypes();
 
@@ -43,6 +47,8 @@ public interface RoleType extends Type {
 
         RelationType getRelation();
 
+        QueryFuture<? extends RelationType> getRelationAsync();
+
         Stream<? extends RelationType> getRelations();
 
         Stream<? extends ThingType> getPlayers();
@@ -22,6 +22,7 @@ package grakn.client.concept.type;
 import grakn.client.Grakn;
 import grakn.client.concept.thing.Thing;
 import grakn.client.concept.type.AttributeType.ValueType;
+import grakn.client.rpc.QueryFuture;
 
 import javax.annotation.CheckReturnValue;
 import java.util.stream.Stream;
@@ -36,6 +37,9 @@ public interface ThingType extends Type {
         @Override
         ThingType getSupertype();
 
+        @Override
+        QueryFuture<? extends ThingType> getSupertypeAsync();
+
         @Override
         Stream<? extends ThingType> getSupertypes();
 
@@ -50,20 +54,36 @@ public interface ThingType extends Type {
 
         void setAbstract();
 
+        QueryFuture<Void> setAbstractAsync();
+
         void unsetAbstract();
 
+        QueryFuture<Void> unsetAbstractAsync();
+
         void setPlays(RoleType role);
 
+        QueryFuture<Void> setPlaysAsync(RoleType role);
+
         void setPlays(RoleType roleType, RoleType overriddenType);
 
+        QueryFuture<Void> setPlaysAsync(RoleType roleType, RoleType overriddenType);
+
         void setOwns(AttributeType attributeType, AttributeType overriddenType, boolean isKey);
 
+        QueryFuture<Void> setOwnsAsync(AttributeType attributeType, AttributeType overriddenType, boolean isKey);
+
         void setOwns(AttributeType attributeType, AttributeType overriddenType);
 
+        QueryFuture<Void> setOwnsAsync(AttributeType attributeType, AttributeType overriddenType);
+
         void setOwns(AttributeType attributeType, boolean isKey);
 
+        QueryFuture<Void> setOwnsAsync(AttributeType attributeType, boolean isKey);
+
         void setOwns(AttributeType attributeType);
 
+        QueryFuture<Void> setOwnsAsync(AttributeType attributeType);
+
         @CheckReturnValue
         Stream<? extends RoleType> getPlays();
 
@@ -81,6 +101,10 @@ public interface ThingType extends Type {
 
         void unsetPlays(RoleType role);
 
+        QueryFuture<Void> unsetPlaysAsync(RoleType role);
+
         void unsetOwns(AttributeType attributeType);
+
+        QueryFuture<Void> unsetOwnsAsync(AttributeType attributeType);
     }
 }
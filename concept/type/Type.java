@@ -21,6 +21,7 @@ package grakn.client.concept.type;
 
 import grakn.client.Grakn;
 import grakn.client.concept.Concept;
+import grakn.client.rpc.QueryFuture;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
@@ -56,13 +57,19 @@ public interface Type extends Concept {
 
         void setLabel(String label);
 
+        QueryFuture<Void> setLabelAsync(String label);
+
         @CheckReturnValue
         boolean isAbstract();
 
+        QueryFuture<Boolean> isAbstractAsync();
+
         @Nullable
         @CheckReturnValue
         Type getSupertype();
 
+        QueryFuture<? extends Type> getSupertypeAsync();
+
         @CheckReturnValue
         Stream<? extends Type> getSupertypes();
 
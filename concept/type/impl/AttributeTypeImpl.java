@@ -24,10 +24,12 @@ import grakn.client.common.exception.GraknClientException;
 import grakn.client.concept.thing.impl.AttributeImpl;
 import grakn.client.concept.thing.impl.ThingImpl;
 import grakn.client.concept.type.AttributeType;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 
 import javax.annotation.Nullable;
 import java.time.LocalDateTime;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static grakn.client.common.exception.ErrorMessage.Concept.BAD_VALUE_TYPE;
@@ -162,12 +164,22 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
             this.setSupertypeExecute(type);
         }
 
+        @Override
+        public final QueryFuture<Void> setSupertypeAsync(AttributeType type) {
+            return this.setSupertypeExecuteAsync(type);
+        }
+
         @Nullable
         @Override
         public AttributeTypeImpl getSupertype() {
             return getSupertypeExecute(TypeImpl::asAttributeType);
         }
 
+        @Override
+        public QueryFuture<? extends AttributeTypeImpl> getSupertypeAsync() {
+            return getSupertypeExecuteAsync(TypeImpl::asAttributeType);
+        }
+
         @Override
         public Stream<? extends AttributeTypeImpl> getSupertypes() {
             return super.getSupertypes().map(TypeImpl::asAttributeType);
@@ -204,26 +216,27 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
             return stream(method, res -> res.getAttributeTypeGetOwnersRes().getOwnerList()).map(TypeImpl::asThingType);
         }
 
-        protected final AttributeImpl<?> put(Object value) {
+        protected final <ATTRIBUTE extends AttributeImpl<?>> QueryFuture<ATTRIBUTE> putAsync(Object value, Function<AttributeImpl<?>, ATTRIBUTE> attributeConstructor) {
             final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder()
                     .setAttributeTypePutReq(ConceptProto.AttributeType.Put.Req.newBuilder()
                             .setValue(attributeValue(value)));
-            return AttributeImpl.of(execute(method).getAttributeTypePutRes().getAttribute());
+            return executeAsync(method, res -> attributeConstructor.apply(AttributeImpl.of(res.getAttributeTypePutRes().getAttribute(), rpcTransaction.types())));
         }
 
-        @Nullable
-        protected final AttributeImpl<?> get(Object value) {
+        protected final <ATTRIBUTE extends AttributeImpl<?>> QueryFuture<ATTRIBUTE> getAsync(Object value, Function<AttributeImpl<?>, ATTRIBUTE> attributeConstructor) {
             final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder()
                     .setAttributeTypeGetReq(ConceptProto.AttributeType.Get.Req.newBuilder()
                             .setValue(attributeValue(value)));
-            final ConceptProto.AttributeType.Get.Res response = execute(method).getAttributeTypeGetRes();
-            switch (response.getResCase()) {
-                case ATTRIBUTE:
-                    return AttributeImpl.of(response.getAttribute());
-                default:
-                case RES_NOT_SET:
-                    return null;
-            }
+            return executeAsync(method, res -> {
+                final ConceptProto.AttributeType.Get.Res response = res.getAttributeTypeGetRes();
+                switch (response.getResCase()) {
+                    case ATTRIBUTE:
+                        return attributeConstructor.apply(AttributeImpl.of(response.getAttribute(), rpcTransaction.types()));
+                    default:
+                    case RES_NOT_SET:
+                        return null;
+                }
+            });
         }
 
         @Override
@@ -327,6 +340,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return getSupertypeExecute(t -> t.asAttributeType().asBoolean());
             }
 
+            @Override
+            public final QueryFuture<AttributeTypeImpl.Boolean> getSupertypeAsync() {
+                return getSupertypeExecuteAsync(t -> t.asAttributeType().asBoolean());
+            }
+
             @Override
             public final Stream<AttributeTypeImpl.Boolean> getSupertypes() {
                 return super.getSupertypes().map(AttributeTypeImpl::asBoolean);
@@ -347,16 +365,30 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(type);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.Boolean type) {
+                return super.setSupertypeAsync(type);
+            }
+
             @Override
             public final AttributeImpl.Boolean put(boolean value) {
-                return super.put(value).asBoolean();
+                return putAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.Boolean> putAsync(boolean value) {
+                return putAsync(value, AttributeImpl::asBoolean);
             }
 
             @Nullable
             @Override
             public final AttributeImpl.Boolean get(boolean value) {
-                final AttributeImpl<?> attr = super.get(value);
-                return attr != null ? attr.asBoolean() : null;
+                return getAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.Boolean> getAsync(boolean value) {
+                return getAsync(value, AttributeImpl::asBoolean);
             }
 
             @Override
@@ -408,6 +440,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return getSupertypeExecute(t -> t.asAttributeType().asLong());
             }
 
+            @Override
+            public final QueryFuture<AttributeTypeImpl.Long> getSupertypeAsync() {
+                return getSupertypeExecuteAsync(t -> t.asAttributeType().asLong());
+            }
+
             @Override
             public final Stream<AttributeTypeImpl.Long> getSupertypes() {
                 return super.getSupertypes().map(AttributeTypeImpl::asLong);
@@ -428,16 +465,30 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(type);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.Long type) {
+                return super.setSupertypeAsync(type);
+            }
+
             @Override
             public final AttributeImpl.Long put(long value) {
-                return super.put(value).asLong();
+                return putAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.Long> putAsync(long value) {
+                return putAsync(value, AttributeImpl::asLong);
             }
 
             @Nullable
             @Override
             public final AttributeImpl.Long get(long value) {
-                final AttributeImpl<?> attr = super.get(value);
-                return attr != null ? attr.asLong() : null;
+                return getAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.Long> getAsync(long value) {
+                return getAsync(value, AttributeImpl::asLong);
             }
 
             @Override
@@ -489,6 +540,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return getSupertypeExecute(t -> t.asAttributeType().asDouble());
             }
 
+            @Override
+            public final QueryFuture<AttributeTypeImpl.Double> getSupertypeAsync() {
+                return getSupertypeExecuteAsync(t -> t.asAttributeType().asDouble());
+            }
+
             @Override
             public final Stream<AttributeTypeImpl.Double> getSupertypes() {
                 return super.getSupertypes().map(AttributeTypeImpl::asDouble);
@@ -509,16 +565,30 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(type);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.Double type) {
+                return super.setSupertypeAsync(type);
+            }
+
             @Override
             public final AttributeImpl.Double put(double value) {
-                return super.put(value).asDouble();
+                return putAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.Double> putAsync(double value) {
+                return putAsync(value, AttributeImpl::asDouble);
             }
 
             @Nullable
             @Override
             public final AttributeImpl.Double get(double value) {
-                final AttributeImpl<?> attr = super.get(value);
-                return attr != null ? attr.asDouble() : null;
+                return getAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.Double> getAsync(double value) {
+                return getAsync(value, AttributeImpl::asDouble);
             }
 
             @Override
@@ -570,6 +640,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return getSupertypeExecute(t -> t.asAttributeType().asString());
             }
 
+            @Override
+            public final QueryFuture<AttributeTypeImpl.String> getSupertypeAsync() {
+                return getSupertypeExecuteAsync(t -> t.asAttributeType().asString());
+            }
+
             @Override
             public final Stream<AttributeTypeImpl.String> getSupertypes() {
                 return super.getSupertypes().map(AttributeTypeImpl::asString);
@@ -590,34 +665,61 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(type);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.String type) {
+                return super.setSupertypeAsync(type);
+            }
+
             @Override
             public final AttributeImpl.String put(java.lang.String value) {
-                return super.put(value).asString();
+                return putAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.String> putAsync(java.lang.String value) {
+                return putAsync(value, AttributeImpl::asString);
             }
 
             @Nullable
             @Override
             public final AttributeImpl.String get(java.lang.String value) {
-                final AttributeImpl<?> attr = super.get(value);
-                return attr != null ? attr.asString() : null;
+                return getAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.String> getAsync(java.lang.String value) {
+                return getAsync(value, AttributeImpl::asString);
             }
 
             @Nullable
             @Override
             public final java.lang.String getRegex() {
+                return getRegexAsync().get();
+            }
+
+            /** Completes with null if the attribute type has no regex. */
+            @Override
+            public final QueryFuture<java.lang.String> getRegexAsync() {
                 final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder()
                         .setAttributeTypeGetRegexReq(ConceptProto.AttributeType.GetRegex.Req.getDefaultInstance());
-                final java.lang.String regex = execute(method).getAttributeTypeGetRegexRes().getRegex();
-                return regex.isEmpty() ? null : regex;
+                return executeAsync(method, res -> {
+                    final java.lang.String regex = res.getAttributeTypeGetRegexRes().getRegex();
+                    return regex.isEmpty() ? null : regex;
+                });
             }
 
             @Override
             public final void setRegex(java.lang.String regex) {
+                setRegexAsync(regex).get();
+            }
+
+            @Override
+            public final QueryFuture<Void> setRegexAsync(java.lang.String regex) {
                 if (regex == null) regex = "";
                 final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder()
                         .setAttributeTypeSetRegexReq(ConceptProto.AttributeType.SetRegex.Req.newBuilder()
                                 .setRegex(regex));
-                execute(method);
+                return executeAsync(method, res -> null);
             }
 
             @Override
@@ -669,6 +771,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return getSupertypeExecute(t -> t.asAttributeType().asDateTime());
             }
 
+            @Override
+            public final QueryFuture<AttributeTypeImpl.DateTime> getSupertypeAsync() {
+                return getSupertypeExecuteAsync(t -> t.asAttributeType().asDateTime());
+            }
+
             @Override
             public final Stream<AttributeTypeImpl.DateTime> getSupertypes() {
                 return super.getSupertypes().map(AttributeTypeImpl::asDateTime);
@@ -689,16 +796,30 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(type);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.DateTime type) {
+                return super.setSupertypeAsync(type);
+            }
+
             @Override
             public final AttributeImpl.DateTime put(LocalDateTime value) {
-                return super.put(value).asDateTime();
+                return putAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.DateTime> putAsync(LocalDateTime value) {
+                return putAsync(value, AttributeImpl::asDateTime);
             }
 
             @Nullable
             @Override
             public final AttributeImpl.DateTime get(LocalDateTime value) {
-                final AttributeImpl<?> attr = super.get(value);
-                return attr != null ? attr.asDateTime() : null;
+                return getAsync(value).get();
+            }
+
+            @Override
+            public final QueryFuture<AttributeImpl.DateTime> getAsync(LocalDateTime value) {
+                return getAsync(value, AttributeImpl::asDateTime);
             }
 
             @Override
@@ -23,6 +23,7 @@ import grakn.client.Grakn;
 import grakn.client.concept.thing.impl.EntityImpl;
 import grakn.client.concept.thing.impl.ThingImpl;
 import grakn.client.concept.type.EntityType;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 
 import java.util.stream.Stream;
@@ -58,11 +59,21 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
             this.setSupertypeExecute(superEntityType);
         }
 
+        @Override
+        public final QueryFuture<Void> setSupertypeAsync(EntityType superEntityType) {
+            return this.setSupertypeExecuteAsync(superEntityType);
+        }
+
         @Override
         public EntityTypeImpl getSupertype() {
             return super.getSupertypeExecute(TypeImpl::asEntityType);
         }
 
+        @Override
+        public QueryFuture<EntityTypeImpl> getSupertypeAsync() {
+            return super.getSupertypeExecuteAsync(TypeImpl::asEntityType);
+        }
+
         @Override
         public final Stream<EntityImpl> getInstances() {
             return super.getInstances(ThingImpl::asEntity);
@@ -85,9 +96,14 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
 
         @Override
         public final EntityImpl create() {
+            return createAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<EntityImpl> createAsync() {
             final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder()
                     .setEntityTypeCreateReq(ConceptProto.EntityType.Create.Req.getDefaultInstance());
-            return EntityImpl.of(execute(method).getEntityTypeCreateRes().getEntity());
+            return executeAsync(method, res -> EntityImpl.of(res.getEntityTypeCreateRes().getEntity(), rpcTransaction.types()));
         }
 
         @Override
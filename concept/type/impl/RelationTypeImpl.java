@@ -23,6 +23,7 @@ import grakn.client.Grakn;
 import grakn.client.concept.thing.impl.RelationImpl;
 import grakn.client.concept.thing.impl.ThingImpl;
 import grakn.client.concept.type.RelationType;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 import grakn.protocol.ConceptProto.RelationType.GetRelates;
 import grakn.protocol.ConceptProto.RelationType.GetRelatesForRoleLabel;
@@ -72,6 +73,11 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
             return super.getSupertypeExecute(TypeImpl::asRelationType);
         }
 
+        @Override
+        public QueryFuture<RelationTypeImpl> getSupertypeAsync() {
+            return super.getSupertypeExecuteAsync(TypeImpl::asRelationType);
+        }
+
         @Override
         public final Stream<RelationTypeImpl> getSupertypes() {
             return super.getSupertypes(TypeImpl::asRelationType);
@@ -87,24 +93,48 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
             this.setSupertypeExecute(type);
         }
 
+        @Override
+        public final QueryFuture<Void> setSupertypeAsync(RelationType type) {
+            return this.setSupertypeExecuteAsync(type);
+        }
+
         @Override
         public final RelationImpl create() {
+            return createAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<RelationImpl> createAsync() {
             final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder().setRelationTypeCreateReq(
                     ConceptProto.RelationType.Create.Req.getDefaultInstance());
-            return RelationImpl.of(execute(method).getRelationTypeCreateRes().getRelation());
+            return executeAsync(method, res -> RelationImpl.of(res.getRelationTypeCreateRes().getRelation(), rpcTransaction.types()));
         }
 
         @Override
         public final RoleTypeImpl getRelates(String roleLabel) {
+            return getRelatesAsync(roleLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<RoleTypeImpl> getRelatesAsync(String roleLabel) {
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) {
+                return QueryFuture.completed(cached.relates().stream().filter(role -> role.getLabel().equals(roleLabel))
+                                                     .findFirst().map(TypeImpl::asRoleType).orElse(null));
+            }
             final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder().setRelationTypeGetRelatesForRoleLabelReq(
                     GetRelatesForRoleLabel.Req.newBuilder().setLabel(roleLabel));
-            final GetRelatesForRoleLabel.Res res = execute(method).getRelationTypeGetRelatesForRoleLabelRes();
-            if (res.hasRoleType()) return TypeImpl.of(res.getRoleType()).asRoleType();
-            else return null;
+            return executeAsync(method, response -> {
+                final GetRelatesForRoleLabel.Res res = response.getRelationTypeGetRelatesForRoleLabelRes();
+                if (res.hasRoleType()) return rpcTransaction.types().get(res.getRoleType()).asRoleType();
+                else return null;
+            });
         }
 
         @Override
         public final Stream<RoleTypeImpl> getRelates() {
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) return cached.relates().stream().map(TypeImpl::asRoleType);
             return stream(
                     ConceptProto.Type.Req.newBuilder().setRelationTypeGetRelatesReq(
                             GetRelates.Req.getDefaultInstance()),
@@ -114,20 +144,35 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
 
         @Override
         public final void setRelates(String roleLabel) {
-            execute(ConceptProto.Type.Req.newBuilder().setRelationTypeSetRelatesReq(
-                    SetRelates.Req.newBuilder().setLabel(roleLabel)));
+            setRelatesAsync(roleLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setRelatesAsync(String roleLabel) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setRelationTypeSetRelatesReq(
+                    SetRelates.Req.newBuilder().setLabel(roleLabel)), res -> null);
         }
 
         @Override
         public final void setRelates(String roleLabel, String overriddenLabel) {
-            execute(ConceptProto.Type.Req.newBuilder().setRelationTypeSetRelatesReq(
-                    SetRelates.Req.newBuilder().setLabel(roleLabel).setOverriddenLabel(overriddenLabel)));
+            setRelatesAsync(roleLabel, overriddenLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setRelatesAsync(String roleLabel, String overriddenLabel) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setRelationTypeSetRelatesReq(
+                    SetRelates.Req.newBuilder().setLabel(roleLabel).setOverriddenLabel(overriddenLabel)), res -> null);
         }
 
         @Override
         public final void unsetRelates(String roleLabel) {
-            execute(ConceptProto.Type.Req.newBuilder().setRelationTypeUnsetRelatesReq(
-                    UnsetRelates.Req.newBuilder().setLabel(roleLabel)));
+            unsetRelatesAsync(roleLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetRelatesAsync(String roleLabel) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setRelationTypeUnsetRelatesReq(
+                    UnsetRelates.Req.newBuilder().setLabel(roleLabel)), res -> null);
         }
 
         @Override
@@ -21,6 +21,7 @@ package grakn.client.concept.type.impl;
 
 import grakn.client.Grakn;
 import grakn.client.concept.type.RoleType;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 
 import javax.annotation.Nullable;
@@ -98,6 +99,11 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
             return getSupertypeExecute(TypeImpl::asRoleType);
         }
 
+        @Override
+        public QueryFuture<RoleTypeImpl> getSupertypeAsync() {
+            return getSupertypeExecuteAsync(TypeImpl::asRoleType);
+        }
+
         @Override
         public final Stream<RoleTypeImpl> getSupertypes() {
             return super.getSupertypes(TypeImpl::asRoleType);
@@ -120,10 +126,14 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
 
         @Override
         public final RelationTypeImpl getRelation() {
+            return getRelationAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<RelationTypeImpl> getRelationAsync() {
             final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder()
                     .setRoleTypeGetRelationTypeReq(ConceptProto.RoleType.GetRelationType.Req.getDefaultInstance());
-            final ConceptProto.RoleType.GetRelationType.Res response = execute(method).getRoleTypeGetRelationTypeRes();
-            return TypeImpl.of(response.getRelationType()).asRelationType();
+            return executeAsync(method, res -> rpcTransaction.types().get(res.getRoleTypeGetRelationTypeRes().getRelationType()).asRelationType());
         }
 
         @Override
@@ -137,6 +147,8 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
 
         @Override
         public final Stream<ThingTypeImpl> getPlayers() {
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) return cached.players().stream().map(TypeImpl::asThingType);
             return stream(
                     ConceptProto.Type.Req.newBuilder().setRoleTypeGetPlayersReq(
                             ConceptProto.RoleType.GetPlayers.Req.getDefaultInstance()),
@@ -159,6 +171,11 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
             return super.execute(method.setScope(scope));
         }
 
+        @Override
+        <T> QueryFuture<T> executeAsync(ConceptProto.Type.Req.Builder method, Function<ConceptProto.Type.Res, T> transform) {
+            return super.executeAsync(method.setScope(scope), transform);
+        }
+
         @Override
         public String toString() {
             return className(this.getClass()) + "[label: " + scope + ":" + getLabel() + "]";
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.concept.type.impl;
+
+import grakn.client.concept.type.Rule;
+import grakn.client.rpc.QueryFuture;
+import grakn.client.rpc.RPCTransaction;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A copy of a database's type hierarchy, from which a session that caches its schema answers type reads. It is taken
+ * at a schema version of the client, and replaced once a schema transaction on the same client commits; types it does
+ * not know of are read from the server.
+ */
+public final class SchemaSnapshot {
+
+    // Every type is the subject of up to six streams, so this keeps the streams open on the transaction under two hundred
+    private static final int LOADERS_IN_FLIGHT = 32;
+
+    private final long version;
+    private final Map<String, Entry> thingTypes;
+    private final Map<String, Entry> roleTypes;
+    private final ConcurrentMap<String, Optional<Rule>> rules;
+
+    SchemaSnapshot(long version, Map<String, Entry> thingTypes, Map<String, Entry> roleTypes) {
+        this.version = version;
+        this.thingTypes = thingTypes;
+        this.roleTypes = roleTypes;
+        this.rules = new ConcurrentHashMap<>();
+    }
+
+    public static SchemaSnapshot load(RPCTransaction transaction, long version) {
+        final ThingTypeImpl rootType = (ThingTypeImpl) transaction.concepts().getRootThingType();
+        final Map<String, TypeImpl> types = new LinkedHashMap<>();
+        types.put(rootType.getLabel(), rootType);
+        rootType.asRemote(transaction).getSubtypes().forEach(type -> types.put(type.getLabel(), type));
+
+        final Map<String, Entry> thingTypes = new LinkedHashMap<>();
+        final Map<String, RoleTypeImpl> roles = new LinkedHashMap<>();
+        for (Entry entry : loadAll(types.values(), transaction)) {
+            thingTypes.put(entry.type.getLabel(), entry);
+            entry.relates.forEach(role -> roles.putIfAbsent(roleKey(role.asRoleType()), role.asRoleType()));
+        }
+
+        final Map<String, Entry> roleTypes = new LinkedHashMap<>();
+        for (Entry entry : loadAll(roles.values(), transaction)) {
+            roleTypes.put(roleKey(entry.type.asRoleType()), entry);
+        }
+        return new SchemaSnapshot(version, thingTypes, roleTypes);
+    }
+
+    /** Loads the types in order, keeping up to {@link #LOADERS_IN_FLIGHT} of them requested ahead of the one being read. */
+    private static List<Entry> loadAll(Collection<? extends TypeImpl> types, RPCTransaction transaction) {
+        final Iterator<? extends TypeImpl> typeIterator = types.iterator();
+        final Deque<Loader> inFlight = new ArrayDeque<>();
+        final List<Entry> entries = new ArrayList<>(types.size());
+        while (inFlight.size() < LOADERS_IN_FLIGHT && typeIterator.hasNext()) inFlight.add(new Loader(typeIterator.next(), transaction));
+        while (!inFlight.isEmpty()) {
+            final Loader next = inFlight.remove();
+            // Send the requests about the next type before waiting on this one
+            if (typeIterator.hasNext()) inFlight.add(new Loader(typeIterator.next(), transaction));
+            entries.add(next.load());
+        }
+        return entries;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    @Nullable
+    public TypeImpl type(String label) {
+        final Entry entry = thingTypes.get(label);
+        return entry != null ? entry.type : null;
+    }
+
+    @Nullable
+    public Rule rule(String label, Function<String, Rule> getRule) {
+        Optional<Rule> rule = rules.get(label);
+        if (rule == null) {
+            // Not computeIfAbsent: the lookup is a round trip, and must not hold up lookups of other rules
+            rule = Optional.ofNullable(getRule.apply(label));
+            rules.putIfAbsent(label, rule);
+        }
+        return rule.orElse(null);
+    }
+
+    @Nullable
+    Entry entry(TypeImpl.Remote type) {
+        if (type instanceof RoleTypeImpl.Remote) return roleTypes.get(roleKey(((RoleTypeImpl.Remote) type).getScope(), type.getLabel()));
+        else return thingTypes.get(type.getLabel());
+    }
+
+    private static String roleKey(RoleTypeImpl role) {
+        return roleKey(role.getScope(), role.getLabel());
+    }
+
+    private static String roleKey(String scope, String label) {
+        return scope + ":" + label;
+    }
+
+    static class Entry {
+
+        private final TypeImpl type;
+        private final boolean isAbstract;
+        @Nullable
+        private final TypeImpl supertype;
+        private final List<TypeImpl> supertypes;
+        private final List<TypeImpl> subtypes;
+        private final List<TypeImpl> owns;
+        private final List<TypeImpl> keys;
+        private final List<TypeImpl> plays;
+        private final List<TypeImpl> relates;
+        private final List<TypeImpl> players;
+
+        Entry(TypeImpl type, boolean isAbstract, @Nullable TypeImpl supertype, List<TypeImpl> supertypes,
+              List<TypeImpl> subtypes, List<TypeImpl> owns, List<TypeImpl> keys, List<TypeImpl> plays,
+              List<TypeImpl> relates, List<TypeImpl> players) {
+            this.type = type;
+            this.isAbstract = isAbstract;
+            this.supertype = supertype;
+            this.supertypes = supertypes;
+            this.subtypes = subtypes;
+            this.owns = owns;
+            this.keys = keys;
+            this.plays = plays;
+            this.relates = relates;
+            this.players = players;
+        }
+
+        boolean isAbstract() {
+            return isAbstract;
+        }
+
+        @Nullable
+        TypeImpl supertype() {
+            return supertype;
+        }
+
+        List<TypeImpl> supertypes() {
+            return supertypes;
+        }
+
+        List<TypeImpl> subtypes() {
+            return subtypes;
+        }
+
+        List<TypeImpl> owns(boolean keysOnly) {
+            return keysOnly ? keys : owns;
+        }
+
+        List<TypeImpl> plays() {
+            return plays;
+        }
+
+        List<TypeImpl> relates() {
+            return relates;
+        }
+
+        List<TypeImpl> players() {
+            return players;
+        }
+    }
+
+    /** Sends every request about one type when created, and reads their responses when loaded. */
+    private static class Loader {
+
+        private final TypeImpl type;
+        private final QueryFuture<Boolean> isAbstract;
+        private final QueryFuture<TypeImpl> supertype;
+        private final Stream<TypeImpl> supertypes;
+        private final Stream<TypeImpl> subtypes;
+        @Nullable
+        private final Stream<? extends TypeImpl> owns;
+        @Nullable
+        private final Stream<? extends TypeImpl> keys;
+        @Nullable
+        private final Stream<? extends TypeImpl> plays;
+        @Nullable
+        private final Stream<? extends TypeImpl> relates;
+        @Nullable
+        private final Stream<? extends TypeImpl> players;
+
+        private Loader(TypeImpl type, RPCTransaction transaction) {
+            this.type = type;
+            final TypeImpl.Remote remote = (TypeImpl.Remote) type.asRemote(transaction);
+            isAbstract = remote.isAbstractAsync();
+            supertype = remote.getSupertypeExecuteAsync(t -> t);
+            supertypes = remote.getSupertypes(t -> t);
+            subtypes = remote.getSubtypes(t -> t);
+            if (remote instanceof ThingTypeImpl.Remote) {
+                final ThingTypeImpl.Remote thingType = (ThingTypeImpl.Remote) remote;
+                owns = thingType.getOwns(null, false);
+                keys = thingType.getOwns(null, true);
+                plays = thingType.getPlays();
+            } else {
+                owns = null;
+                keys = null;
+                plays = null;
+            }
+            relates = remote instanceof RelationTypeImpl.Remote ? ((RelationTypeImpl.Remote) remote).getRelates() : null;
+            players = remote instanceof RoleTypeImpl.Remote ? ((RoleTypeImpl.Remote) remote).getPlayers() : null;
+        }
+
+        private Entry load() {
+            return new Entry(type, isAbstract.get(), supertype.get(), list(supertypes), list(subtypes),
+                             list(owns), list(keys), list(plays), list(relates), list(players));
+        }
+
+        private static List<TypeImpl> list(@Nullable Stream<? extends TypeImpl> stream) {
+            if (stream == null) return Collections.emptyList();
+            final List<TypeImpl> list = new ArrayList<>();
+            stream.forEach(list::add);
+            return Collections.unmodifiableList(list);
+        }
+    }
+}
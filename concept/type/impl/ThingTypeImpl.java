@@ -26,6 +26,7 @@ import grakn.client.concept.type.AttributeType;
 import grakn.client.concept.type.AttributeType.ValueType;
 import grakn.client.concept.type.RoleType;
 import grakn.client.concept.type.ThingType;
+import grakn.client.rpc.QueryFuture;
 import grakn.protocol.ConceptProto;
 import grakn.protocol.ConceptProto.ThingType.GetInstances;
 import grakn.protocol.ConceptProto.ThingType.GetOwns;
@@ -88,6 +89,11 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
             return super.getSupertypeExecute(TypeImpl::asThingType);
         }
 
+        @Override
+        public QueryFuture<? extends ThingTypeImpl> getSupertypeAsync() {
+            return super.getSupertypeExecuteAsync(TypeImpl::asThingType);
+        }
+
         @Override
         public Stream<? extends ThingTypeImpl> getSupertypes() {
             return super.getSupertypes(TypeImpl::asThingType);
@@ -112,16 +118,28 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
 
         @Override
         public final void setAbstract() {
-            execute(ConceptProto.Type.Req.newBuilder().setThingTypeSetAbstractReq(SetAbstract.Req.getDefaultInstance()));
+            setAbstractAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setAbstractAsync() {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setThingTypeSetAbstractReq(SetAbstract.Req.getDefaultInstance()), res -> null);
         }
 
         @Override
         public final void unsetAbstract() {
-            execute(ConceptProto.Type.Req.newBuilder().setThingTypeUnsetAbstractReq(UnsetAbstract.Req.getDefaultInstance()));
+            unsetAbstractAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetAbstractAsync() {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setThingTypeUnsetAbstractReq(UnsetAbstract.Req.getDefaultInstance()), res -> null);
         }
 
         @Override
         public final Stream<RoleTypeImpl> getPlays() {
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) return cached.plays().stream().map(TypeImpl::asRoleType);
             return stream(
                     ConceptProto.Type.Req.newBuilder().setThingTypeGetPlaysReq(
                             GetPlays.Req.getDefaultInstance()),
@@ -131,6 +149,11 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
 
         @Override
         public final Stream<AttributeTypeImpl> getOwns(ValueType valueType, boolean keysOnly) {
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) {
+                final Stream<AttributeTypeImpl> owns = cached.owns(keysOnly).stream().map(TypeImpl::asAttributeType);
+                return valueType != null ? owns.filter(type -> type.getValueType() == valueType) : owns;
+            }
             final GetOwns.Req.Builder req = GetOwns.Req.newBuilder().setKeysOnly(keysOnly);
             if (valueType != null) req.setValueType(valueType(valueType));
             return stream(
@@ -156,9 +179,14 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
 
         @Override
         public final void setOwns(AttributeType attributeType, AttributeType overriddenType, boolean isKey) {
+            setOwnsAsync(attributeType, overriddenType, isKey).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setOwnsAsync(AttributeType attributeType, AttributeType overriddenType, boolean isKey) {
             final SetOwns.Req.Builder req = SetOwns.Req.newBuilder().setAttributeType(type(attributeType)).setIsKey(isKey);
             if (overriddenType != null) req.setOverriddenType(type(overriddenType));
-            execute(ConceptProto.Type.Req.newBuilder().setThingTypeSetOwnsReq(req));
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setThingTypeSetOwnsReq(req), res -> null);
         }
 
         @Override
@@ -166,38 +194,73 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
             setOwns(attributeType, overriddenType, false);
         }
 
+        @Override
+        public QueryFuture<Void> setOwnsAsync(AttributeType attributeType, AttributeType overriddenType) {
+            return setOwnsAsync(attributeType, overriddenType, false);
+        }
+
         @Override
         public void setOwns(AttributeType attributeType, boolean isKey) {
             setOwns(attributeType, null, isKey);
         }
 
+        @Override
+        public QueryFuture<Void> setOwnsAsync(AttributeType attributeType, boolean isKey) {
+            return setOwnsAsync(attributeType, null, isKey);
+        }
+
         @Override
         public void setOwns(AttributeType attributeType) {
             setOwns(attributeType, null, false);
         }
 
+        @Override
+        public QueryFuture<Void> setOwnsAsync(AttributeType attributeType) {
+            return setOwnsAsync(attributeType, null, false);
+        }
+
         @Override
         public final void setPlays(RoleType role) {
-            execute(ConceptProto.Type.Req.newBuilder().setThingTypeSetPlaysReq(
-                    SetPlays.Req.newBuilder().setRole(type(role))));
+            setPlaysAsync(role).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setPlaysAsync(RoleType role) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setThingTypeSetPlaysReq(
+                    SetPlays.Req.newBuilder().setRole(type(role))), res -> null);
         }
 
         @Override
         public final void setPlays(RoleType role, RoleType overriddenRole) {
-            execute(ConceptProto.Type.Req.newBuilder().setThingTypeSetPlaysReq(
-                    SetPlays.Req.newBuilder().setRole(type(role)).setOverriddenRole(type(overriddenRole))));
+            setPlaysAsync(role, overriddenRole).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setPlaysAsync(RoleType role, RoleType overriddenRole) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setThingTypeSetPlaysReq(
+                    SetPlays.Req.newBuilder().setRole(type(role)).setOverriddenRole(type(overriddenRole))), res -> null);
         }
 
         @Override
         public final void unsetOwns(AttributeType attributeType) {
-            execute(ConceptProto.Type.Req.newBuilder().setThingTypeUnsetOwnsReq(
-                    UnsetOwns.Req.newBuilder().setAttributeType(type(attributeType))));
+            unsetOwnsAsync(attributeType).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetOwnsAsync(AttributeType attributeType) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setThingTypeUnsetOwnsReq(
+                    UnsetOwns.Req.newBuilder().setAttributeType(type(attributeType))), res -> null);
         }
 
         @Override
         public final void unsetPlays(RoleType role) {
-            execute(ConceptProto.Type.Req.newBuilder().setThingTypeUnsetPlaysReq(
-                    UnsetPlays.Req.newBuilder().setRole(type(role))));
+            unsetPlaysAsync(role).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetPlaysAsync(RoleType role) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setThingTypeUnsetPlaysReq(
+                    UnsetPlays.Req.newBuilder().setRole(type(role))), res -> null);
         }
 
         @Override
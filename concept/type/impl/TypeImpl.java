@@ -29,6 +29,7 @@ import grakn.client.concept.type.RelationType;
 import grakn.client.concept.type.RoleType;
 import grakn.client.concept.type.ThingType;
 import grakn.client.concept.type.Type;
+import grakn.client.rpc.QueryFuture;
 import grakn.client.rpc.RPCTransaction;
 import grakn.protocol.ConceptProto;
 import grakn.protocol.ConceptProto.Type.SetSupertype;
@@ -143,7 +144,7 @@ public abstract class TypeImpl implements Type {
     public abstract static class Remote implements Type.Remote {
 
         final RPCTransaction rpcTransaction;
-        private String label;
+        private volatile String label;
         private final boolean isRoot;
         private final int hash;
 
@@ -173,16 +174,30 @@ public abstract class TypeImpl implements Type {
 
         @Override
         public final void setLabel(String label) {
-            execute(ConceptProto.Type.Req.newBuilder()
-                    .setTypeSetLabelReq(ConceptProto.Type.SetLabel.Req.newBuilder().setLabel(label)));
-            this.label = label;
+            setLabelAsync(label).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setLabelAsync(String label) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder()
+                    .setTypeSetLabelReq(ConceptProto.Type.SetLabel.Req.newBuilder().setLabel(label)), res -> {
+                this.label = label;
+                return null;
+            });
         }
 
         @Override
         public final boolean isAbstract() {
-            return execute(ConceptProto.Type.Req.newBuilder()
-                    .setTypeIsAbstractReq(ConceptProto.Type.IsAbstract.Req.getDefaultInstance()))
-                    .getTypeIsAbstractRes().getAbstract();
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) return cached.isAbstract();
+            return isAbstractAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Boolean> isAbstractAsync() {
+            return executeAsync(ConceptProto.Type.Req.newBuilder()
+                    .setTypeIsAbstractReq(ConceptProto.Type.IsAbstract.Req.getDefaultInstance()),
+                    res -> res.getTypeIsAbstractRes().getAbstract());
         }
 
         @Override
@@ -221,31 +236,47 @@ public abstract class TypeImpl implements Type {
         }
 
         void setSupertypeExecute(Type type) {
-            execute(ConceptProto.Type.Req.newBuilder().setTypeSetSupertypeReq(SetSupertype.Req.newBuilder().setType(type(type))));
+            setSupertypeExecuteAsync(type).get();
+        }
+
+        QueryFuture<Void> setSupertypeExecuteAsync(Type type) {
+            return executeAsync(ConceptProto.Type.Req.newBuilder()
+                    .setTypeSetSupertypeReq(SetSupertype.Req.newBuilder().setType(type(type))), res -> null);
         }
 
         @Nullable
         <TYPE extends TypeImpl> TYPE getSupertypeExecute(Function<TypeImpl, TYPE> typeConstructor) {
-            final ConceptProto.Type.GetSupertype.Res response = execute(ConceptProto.Type.Req.newBuilder()
-                    .setTypeGetSupertypeReq(ConceptProto.Type.GetSupertype.Req.getDefaultInstance()))
-                    .getTypeGetSupertypeRes();
+            return getSupertypeExecuteAsync(typeConstructor).get();
+        }
 
-            switch (response.getResCase()) {
-                case TYPE:
-                    return typeConstructor.apply(TypeImpl.of(response.getType()));
-                case RES_NOT_SET:
-                default:
-                    return null;
-            }
+        /** Completes with null if the type has no supertype. */
+        <TYPE extends TypeImpl> QueryFuture<TYPE> getSupertypeExecuteAsync(Function<TypeImpl, TYPE> typeConstructor) {
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) return QueryFuture.completed(cached.supertype() != null ? typeConstructor.apply(cached.supertype()) : null);
+            return executeAsync(ConceptProto.Type.Req.newBuilder()
+                    .setTypeGetSupertypeReq(ConceptProto.Type.GetSupertype.Req.getDefaultInstance()), res -> {
+                final ConceptProto.Type.GetSupertype.Res response = res.getTypeGetSupertypeRes();
+                switch (response.getResCase()) {
+                    case TYPE:
+                        return typeConstructor.apply(rpcTransaction.types().get(response.getType()));
+                    case RES_NOT_SET:
+                    default:
+                        return null;
+                }
+            });
         }
 
         <TYPE extends TypeImpl> Stream<TYPE> getSupertypes(Function<TypeImpl, TYPE> typeConstructor) {
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) return cached.supertypes().stream().map(typeConstructor);
             final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder()
                     .setTypeGetSupertypesReq(ConceptProto.Type.GetSupertypes.Req.getDefaultInstance());
             return stream(method, res -> res.getTypeGetSupertypesRes().getTypeList()).map(typeConstructor);
         }
 
         <TYPE extends TypeImpl> Stream<TYPE> getSubtypes(Function<TypeImpl, TYPE> typeConstructor) {
+            final SchemaSnapshot.Entry cached = cached();
+            if (cached != null) return cached.subtypes().stream().map(typeConstructor);
             final ConceptProto.Type.Req.Builder method = ConceptProto.Type.Req.newBuilder()
                     .setTypeGetSubtypesReq(ConceptProto.Type.GetSubtypes.Req.getDefaultInstance());
             return stream(method, res -> res.getTypeGetSubtypesRes().getTypeList()).map(typeConstructor);
@@ -253,7 +284,12 @@ public abstract class TypeImpl implements Type {
 
         @Override
         public final void delete() {
-            execute(ConceptProto.Type.Req.newBuilder().setTypeDeleteReq(ConceptProto.Type.Delete.Req.getDefaultInstance()));
+            deleteAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Void> deleteAsync() {
+            return executeAsync(ConceptProto.Type.Req.newBuilder().setTypeDeleteReq(ConceptProto.Type.Delete.Req.getDefaultInstance()), res -> null);
         }
 
         @Override
@@ -265,16 +301,23 @@ public abstract class TypeImpl implements Type {
             return rpcTransaction;
         }
 
+        /** What the session's schema snapshot knows of this type, if the transaction reads from one. */
+        @Nullable
+        final SchemaSnapshot.Entry cached() {
+            final SchemaSnapshot schema = rpcTransaction.schema();
+            return schema != null ? schema.entry(this) : null;
+        }
+
         Stream<TypeImpl> stream(ConceptProto.Type.Req.Builder method, Function<ConceptProto.Type.Res, List<ConceptProto.Type>> typeGetter) {
             final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
                     .setTypeReq(method.setLabel(label));
-            return rpcTransaction.stream(request, res -> typeGetter.apply(res.getTypeRes()).stream().map(TypeImpl::of));
+            return rpcTransaction.stream(request, res -> typeGetter.apply(res.getTypeRes()).stream().map(rpcTransaction.types()::get));
         }
 
         Stream<ThingImpl> thingStream(ConceptProto.Type.Req.Builder method, Function<ConceptProto.Type.Res, List<ConceptProto.Thing>> thingGetter) {
             final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
                     .setTypeReq(method.setLabel(label));
-            return rpcTransaction.stream(request, res -> thingGetter.apply(res.getTypeRes()).stream().map(ThingImpl::of));
+            return rpcTransaction.stream(request, res -> thingGetter.apply(res.getTypeRes()).stream().map(thing -> ThingImpl.of(thing, rpcTransaction.types())));
         }
 
         ConceptProto.Type.Res execute(ConceptProto.Type.Req.Builder method) {
@@ -283,6 +326,12 @@ public abstract class TypeImpl implements Type {
             return rpcTransaction.execute(request).getTypeRes();
         }
 
+        <T> QueryFuture<T> executeAsync(ConceptProto.Type.Req.Builder method, Function<ConceptProto.Type.Res, T> transform) {
+            final TransactionProto.Transaction.Req.Builder request = TransactionProto.Transaction.Req.newBuilder()
+                    .setTypeReq(method.setLabel(label));
+            return rpcTransaction.executeAsync(request, res -> transform.apply(res.getTypeRes()));
+        }
+
         @Override
         public String toString() {
             return className(this.getClass()) + "[label: " + label + "]";
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.concept.type.impl;
+
+import grakn.client.concept.thing.IID;
+import grakn.protocol.ConceptProto;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The types decoded by a session, so that every occurrence of a type in its answers is the same object, and the types
+ * of the things whose type the session has resolved.
+ *
+ * A type is looked up by its whole message (label, scope, encoding, value type, and whether it is a root), so a type
+ * that was redefined under the same label decodes to a new object rather than a stale one. Types are not evicted, as
+ * that would hand out a second object for a type the session has already decoded: the table grows with the schema.
+ *
+ * Since the protocol does not send the type of a thing, a thing's type is only known once it was resolved. The types
+ * of at most {@link #MAX_THINGS} things are kept, and a quarter of them are evicted, in no particular order, to make
+ * room for more.
+ *
+ * Both are released by {@link #sync(long)} once the schema version moves on, since a type may have been relabelled.
+ * Only schema commits made through the same client move it on.
+ */
+public final class TypeTable {
+
+    static final int MAX_THINGS = 100_000;
+
+    private final ConcurrentMap<ConceptProto.Type, TypeImpl> types;
+    private final ConcurrentMap<IID, ThingTypeImpl> thingTypes;
+    private final AtomicBoolean isEvicting;
+    private volatile long schemaVersion;
+
+    public TypeTable() {
+        types = new ConcurrentHashMap<>();
+        thingTypes = new ConcurrentHashMap<>();
+        isEvicting = new AtomicBoolean(false);
+        schemaVersion = 0;
+    }
+
+    public TypeImpl get(ConceptProto.Type typeProto) {
+        // get before putIfAbsent: the table is almost always hit, and a hit should not contend
+        final TypeImpl type = types.get(typeProto);
+        if (type != null) return type;
+        final TypeImpl decoded = TypeImpl.of(typeProto);
+        final TypeImpl existing = types.putIfAbsent(typeProto, decoded);
+        return existing != null ? existing : decoded;
+    }
+
+    /** Decodes a type through the table, if there is one. */
+    public static TypeImpl decode(@Nullable TypeTable table, ConceptProto.Type typeProto) {
+        return table != null ? table.get(typeProto) : TypeImpl.of(typeProto);
+    }
+
+    @Nullable
+    public ThingTypeImpl thingType(IID thing) {
+        return thingTypes.get(thing);
+    }
+
+    public void putThingType(IID thing, ThingTypeImpl type) {
+        if (thingTypes.size() >= MAX_THINGS) evictThingTypes();
+        thingTypes.put(thing, type);
+    }
+
+    private void evictThingTypes() {
+        // Threads that find the table full at the same time should not each evict a quarter of it
+        if (!isEvicting.compareAndSet(false, true)) return;
+        try {
+            final Iterator<IID> things = thingTypes.keySet().iterator();
+            for (int i = 0; i < MAX_THINGS / 4 && things.hasNext(); i++) {
+                things.next();
+                things.remove();
+            }
+        } finally {
+            isEvicting.set(false);
+        }
+    }
+
+    /** Releases everything decoded under an older schema, if the given schema version is newer than the table's. */
+    public void sync(long schemaVersion) {
+        if (schemaVersion <= this.schemaVersion) return;
+        synchronized (this) {
+            if (schemaVersion <= this.schemaVersion) return;
+            invalidate();
+            this.schemaVersion = schemaVersion;
+        }
+    }
+
+    public void invalidate() {
+        types.clear();
+        thingTypes.clear();
+    }
+}
@@ -21,8 +21,13 @@ package grakn.client.query;
 
 import grakn.client.GraknOptions;
 import grakn.client.concept.answer.ConceptMap;
+import grakn.client.concept.thing.IID;
+import grakn.client.concept.type.impl.TypeTable;
 import grakn.client.rpc.QueryFuture;
+import grakn.client.rpc.QueryPublisher;
 import grakn.client.rpc.RPCTransaction;
+import grakn.protocol.AnswerProto;
+import grakn.protocol.ConceptProto;
 import grakn.protocol.QueryProto;
 import grakn.protocol.TransactionProto;
 import graql.lang.query.GraqlDefine;
@@ -31,6 +36,10 @@ import graql.lang.query.GraqlInsert;
 import graql.lang.query.GraqlMatch;
 import graql.lang.query.GraqlUndefine;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -51,7 +60,19 @@ public final class QueryManager {
     public Stream<ConceptMap> match(GraqlMatch query, GraknOptions options) {
         final QueryProto.Query.Req.Builder request = QueryProto.Query.Req.newBuilder().setMatchReq(
                 QueryProto.Graql.Match.Req.newBuilder().setQuery(query.toString()));
-        return iterateQuery(request, options, res -> res.getQueryRes().getMatchRes().getAnswerList().stream().map(ConceptMap::of));
+        final Function<AnswerProto.ConceptMap, ConceptMap> answers = answerReader(options);
+        return iterateQuery(request, options, res -> resolvingThingTypes(res.getQueryRes().getMatchRes().getAnswerList(), options).map(answers));
+    }
+
+    public QueryPublisher<ConceptMap> matchPublisher(GraqlMatch query) {
+        return matchPublisher(query, new GraknOptions());
+    }
+
+    public QueryPublisher<ConceptMap> matchPublisher(GraqlMatch query, GraknOptions options) {
+        final QueryProto.Query.Req.Builder request = QueryProto.Query.Req.newBuilder().setMatchReq(
+                QueryProto.Graql.Match.Req.newBuilder().setQuery(query.toString()));
+        final Function<AnswerProto.ConceptMap, ConceptMap> answers = answerReader(options);
+        return publishQuery(request, options, res -> res.getQueryRes().getMatchRes().getAnswerList().stream().map(answers));
     }
 
     public Stream<ConceptMap> insert(GraqlInsert query) {
@@ -61,7 +82,19 @@ public final class QueryManager {
     public Stream<ConceptMap> insert(GraqlInsert query, GraknOptions options) {
         final QueryProto.Query.Req.Builder request = QueryProto.Query.Req.newBuilder().setInsertReq(
                 QueryProto.Graql.Insert.Req.newBuilder().setQuery(query.toString()));
-        return iterateQuery(request, options, res -> res.getQueryRes().getInsertRes().getAnswerList().stream().map(ConceptMap::of));
+        final Function<AnswerProto.ConceptMap, ConceptMap> answers = answerReader(options);
+        return iterateQuery(request, options, res -> resolvingThingTypes(res.getQueryRes().getInsertRes().getAnswerList(), options).map(answers));
+    }
+
+    public QueryPublisher<ConceptMap> insertPublisher(GraqlInsert query) {
+        return insertPublisher(query, new GraknOptions());
+    }
+
+    public QueryPublisher<ConceptMap> insertPublisher(GraqlInsert query, GraknOptions options) {
+        final QueryProto.Query.Req.Builder request = QueryProto.Query.Req.newBuilder().setInsertReq(
+                QueryProto.Graql.Insert.Req.newBuilder().setQuery(query.toString()));
+        final Function<AnswerProto.ConceptMap, ConceptMap> answers = answerReader(options);
+        return publishQuery(request, options, res -> res.getQueryRes().getInsertRes().getAnswerList().stream().map(answers));
     }
 
     public QueryFuture<Void> delete(GraqlDelete query) {
@@ -88,16 +121,43 @@ public final class QueryManager {
         return runQuery(QueryProto.Query.Req.newBuilder().setUndefineReq(QueryProto.Graql.Undefine.Req.newBuilder().setQuery(query.toString())), options);
     }
 
+    private Function<AnswerProto.ConceptMap, ConceptMap> answerReader(GraknOptions options) {
+        final TypeTable types = rpcTransaction.types();
+        return options.answerVariables().map(variables -> ConceptMap.reader(variables, types)).orElseGet(() -> ConceptMap.reader(types));
+    }
+
+    // Publishers may read their batches on the gRPC thread, which must never wait for a response, so only streams resolve
+    private Stream<AnswerProto.ConceptMap> resolvingThingTypes(List<AnswerProto.ConceptMap> batch, GraknOptions options) {
+        if (!options.resolveThingTypes().orElse(false)) return batch.stream();
+        final Set<String> variables = options.answerVariables().orElse(null);
+        final Set<IID> things = new HashSet<>();
+        for (AnswerProto.ConceptMap answer : batch) {
+            for (Map.Entry<String, ConceptProto.Concept> concept : answer.getMapMap().entrySet()) {
+                final boolean isKept = variables == null || variables.contains(concept.getKey());
+                if (isKept && concept.getValue().hasThing()) things.add(IID.of(concept.getValue().getThing().getIid()));
+            }
+        }
+        if (!things.isEmpty()) rpcTransaction.concepts().getThingTypes(things);
+        return batch.stream();
+    }
+
     private QueryFuture<Void> runQuery(QueryProto.Query.Req.Builder request, GraknOptions options) {
         final TransactionProto.Transaction.Req.Builder req = TransactionProto.Transaction.Req.newBuilder()
                 .setQueryReq(request.setOptions(options(options)));
-        return rpcTransaction.executeAsync(req, res -> null);
+        return rpcTransaction.executeAsync(req, options, res -> null);
     }
 
     private <T> Stream<T> iterateQuery(QueryProto.Query.Req.Builder request, GraknOptions options,
                                        Function<TransactionProto.Transaction.Res, Stream<T>> responseReader) {
         final TransactionProto.Transaction.Req.Builder req = TransactionProto.Transaction.Req.newBuilder()
                 .setQueryReq(request.setOptions(options(options)));
-        return rpcTransaction.stream(req, responseReader);
+        return rpcTransaction.stream(req, options, responseReader);
+    }
+
+    private <T> QueryPublisher<T> publishQuery(QueryProto.Query.Req.Builder request, GraknOptions options,
+                                               Function<TransactionProto.Transaction.Res, Stream<T>> responseReader) {
+        final TransactionProto.Transaction.Req.Builder req = TransactionProto.Transaction.Req.newBuilder()
+                .setQueryReq(request.setOptions(options(options)));
+        return rpcTransaction.publisher(req, options, responseReader);
     }
 }
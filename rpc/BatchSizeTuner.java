@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chooses the answer batch size for the streamed queries of a transaction from what it observed on earlier streams.
+ *
+ * With a read-ahead of 0 the consumer waits for one round trip at the end of every batch, so a batch should hold
+ * enough answers to keep the consumer busy for several round trips: a fast consumer (a bulk scan) gets large batches,
+ * and a slow one (an interactive query) gets small batches, and therefore its first answers sooner. The batch size is
+ * further capped so that a buffered batch does not exceed {@link #MAX_BATCH_BYTES}.
+ *
+ * The batch size is part of the query's options, so it can only be chosen when a query starts; what a stream learns
+ * is applied to the streams that follow it.
+ */
+class BatchSizeTuner {
+
+    static final int INITIAL_BATCH_SIZE = 50;
+    static final int MIN_BATCH_SIZE = 8;
+    static final int MAX_BATCH_SIZE = 10_000;
+    private static final long MAX_BATCH_BYTES = 4L * 1024 * 1024;
+    private static final int ROUND_TRIPS_PER_BATCH = 4;
+    private static final long MIN_ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    // Weight of the latest stream in the moving averages
+    private static final double SMOOTHING = 0.5;
+
+    private double answersPerSecond;
+    private double bytesPerAnswer;
+    private boolean hasSamples;
+
+    BatchSizeTuner() {
+        hasSamples = false;
+    }
+
+    synchronized int batchSize(long roundTripNanos) {
+        if (!hasSamples) return INITIAL_BATCH_SIZE;
+        final double roundTripSeconds = Math.max(roundTripNanos, MIN_ROUND_TRIP_NANOS) / 1e9;
+        double batchSize = answersPerSecond * roundTripSeconds * ROUND_TRIPS_PER_BATCH;
+        if (bytesPerAnswer > 0) batchSize = Math.min(batchSize, MAX_BATCH_BYTES / bytesPerAnswer);
+        return (int) Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, batchSize));
+    }
+
+    Sample newSample() {
+        return new Sample();
+    }
+
+    private synchronized void record(double answersPerSecond, double bytesPerAnswer) {
+        if (!hasSamples) {
+            this.answersPerSecond = answersPerSecond;
+            this.bytesPerAnswer = bytesPerAnswer;
+            hasSamples = true;
+        } else {
+            this.answersPerSecond += SMOOTHING * (answersPerSecond - this.answersPerSecond);
+            this.bytesPerAnswer += SMOOTHING * (bytesPerAnswer - this.bytesPerAnswer);
+        }
+    }
+
+    /**
+     * What one stream observed: the answers received and their size, on the gRPC thread, and the answers consumed and
+     * the time spent waiting for a batch, on the consumer's thread.
+     */
+    class Sample {
+
+        private final long startNanos;
+        private final AtomicLong received;
+        private final AtomicLong receivedBytes;
+        private final AtomicLong consumed;
+        private final AtomicLong waitedNanos;
+        private final AtomicBoolean isFinished;
+
+        private Sample() {
+            startNanos = System.nanoTime();
+            received = new AtomicLong(0);
+            receivedBytes = new AtomicLong(0);
+            consumed = new AtomicLong(0);
+            waitedNanos = new AtomicLong(0);
+            isFinished = new AtomicBoolean(false);
+        }
+
+        void onAnswerReceived(int bytes) {
+            received.incrementAndGet();
+            receivedBytes.addAndGet(bytes);
+        }
+
+        void onAnswerConsumed() {
+            consumed.incrementAndGet();
+        }
+
+        void onConsumerWaited(long nanos) {
+            waitedNanos.addAndGet(nanos);
+        }
+
+        void finish() {
+            if (!isFinished.compareAndSet(false, true) || consumed.get() == 0) return;
+            // Time the consumer spent waiting for the network is not part of its processing rate
+            final long busyNanos = Math.max(System.nanoTime() - startNanos - waitedNanos.get(), 1);
+            final double bytesPerAnswer = received.get() > 0 ? (double) receivedBytes.get() / received.get() : 0;
+            record(consumed.get() * 1e9 / busyNanos, bytesPerAnswer);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import io.grpc.Channel;
+import io.grpc.ManagedChannel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+
+/**
+ * A fixed set of channels, each with its own HTTP/2 connection, across which sessions and transactions are striped.
+ * Every open session and transaction holds a {@link Lease} on one channel, and new leases go to the least loaded one.
+ */
+class ChannelPool {
+
+    private final List<ManagedChannel> channels;
+    private final AtomicIntegerArray load;
+    private final List<RoundTripEstimator> roundTrips;
+
+    ChannelPool(int size, Supplier<ManagedChannel> channelFactory) {
+        assert size > 0;
+        channels = new ArrayList<>(size);
+        roundTrips = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            channels.add(channelFactory.get());
+            roundTrips.add(new RoundTripEstimator());
+        }
+        load = new AtomicIntegerArray(size);
+    }
+
+    Lease acquire() {
+        int leastLoaded = 0;
+        for (int i = 1; i < channels.size(); i++) {
+            if (load.get(i) < load.get(leastLoaded)) leastLoaded = i;
+        }
+        load.incrementAndGet(leastLoaded);
+        return new Lease(leastLoaded);
+    }
+
+    Channel any() {
+        return channels.get(0);
+    }
+
+    List<Integer> load() {
+        final List<Integer> result = new ArrayList<>(channels.size());
+        for (int i = 0; i < channels.size(); i++) result.add(load.get(i));
+        return result;
+    }
+
+    List<Long> roundTripNanos() {
+        final List<Long> result = new ArrayList<>(channels.size());
+        for (RoundTripEstimator roundTrip : roundTrips) result.add(roundTrip.estimateNanos());
+        return result;
+    }
+
+    boolean isShutdown() {
+        return channels.get(0).isShutdown();
+    }
+
+    void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        channels.forEach(ManagedChannel::shutdown);
+        for (ManagedChannel channel : channels) channel.awaitTermination(timeout, unit);
+    }
+
+    class Lease {
+
+        private final int index;
+        private final AtomicBoolean isReleased;
+
+        private Lease(int index) {
+            this.index = index;
+            this.isReleased = new AtomicBoolean(false);
+        }
+
+        Channel channel() {
+            return channels.get(index);
+        }
+
+        RoundTripEstimator roundTrip() {
+            return roundTrips.get(index);
+        }
+
+        void release() {
+            if (isReleased.compareAndSet(false, true)) load.decrementAndGet(index);
+        }
+    }
+}
@@ -22,27 +22,71 @@ package grakn.client.rpc;
 import grakn.client.Grakn.Client;
 import grakn.client.Grakn.DatabaseManager;
 import grakn.client.Grakn.Session;
+import grakn.client.Grakn.SessionPool;
 import grakn.client.GraknOptions;
-import io.grpc.Channel;
+import grakn.client.common.exception.GraknClientException;
+import io.grpc.CompressorRegistry;
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.netty.NettyChannelBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
 
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static grakn.client.common.exception.ErrorMessage.Client.NEGATIVE_CLIENT_SETTING;
+import static grakn.client.common.exception.ErrorMessage.Client.NON_POSITIVE_CHANNEL_COUNT;
+import static grakn.client.common.exception.ErrorMessage.Client.NON_POSITIVE_CLIENT_SETTING;
+import static grakn.client.common.exception.ErrorMessage.Client.UNKNOWN_COMPRESSOR;
 
 public class GraknClient implements Client {
 
     public static final String DEFAULT_URI = "localhost:1729";
 
-    private final ManagedChannel channel;
+    private final ChannelPool channels;
+    @Nullable
+    private final EventLoopGroup eventLoopGroup;
     private final DatabaseManager databases;
+    private final RPCSessionPool sessionPool;
+    @Nullable
+    private final String compression;
+    private final int compressionThresholdBytes;
+    private final ConcurrentMap<String, AtomicLong> schemaVersions;
 
     public GraknClient() {
         this(DEFAULT_URI);
     }
 
     public GraknClient(String address) {
-        channel = ManagedChannelBuilder.forTarget(address).usePlaintext().build();
-        databases = new RPCDatabaseManager(channel);
+        this(address, 1);
+    }
+
+    public GraknClient(String address, int channelCount) {
+        this(new Builder().address(address).channelCount(channelCount));
+    }
+
+    private GraknClient(Builder builder) {
+        eventLoopGroup = builder.eventLoopGroup();
+        channels = new ChannelPool(builder.channelCount, () -> builder.channel(eventLoopGroup));
+        databases = new RPCDatabaseManager(channels.any());
+        sessionPool = new RPCSessionPool(this, builder.sessionPoolMinIdle, builder.sessionPoolMaxSize, builder.sessionPoolMaxIdleNanos,
+                                         builder.sessionPoolBorrowTimeoutNanos);
+        compression = builder.compression;
+        compressionThresholdBytes = builder.compressionThresholdBytes;
+        schemaVersions = new ConcurrentHashMap<>();
+    }
+
+    public static Builder builder() {
+        return new Builder();
     }
 
     @Override
@@ -60,21 +104,240 @@ public class GraknClient implements Client {
         return databases;
     }
 
+    @Override
+    public SessionPool sessionPool() {
+        return sessionPool;
+    }
+
+    /**
+     * Returns the number of open sessions and transactions on each of this client's channels.
+     */
+    public List<Integer> channelLoad() {
+        return channels.load();
+    }
+
+    /**
+     * Returns the estimated network round trip time of each of this client's channels, in nanoseconds, measured from
+     * the transactions that run on them.
+     */
+    public List<Long> channelRoundTripNanos() {
+        return channels.roundTripNanos();
+    }
+
     @Override
     public boolean isOpen() {
-        return !channel.isShutdown();
+        return !channels.isShutdown();
     }
 
     @Override
     public void close() {
+        sessionPool.close();
         try {
-            channel.shutdown().awaitTermination(10, TimeUnit.SECONDS);
+            channels.shutdown(10, TimeUnit.SECONDS);
+            if (eventLoopGroup != null) eventLoopGroup.shutdownGracefully().await(10, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
     }
 
-    Channel channel() {
-        return channel;
+    ChannelPool channels() {
+        return channels;
+    }
+
+    @Nullable
+    String compression() {
+        return compression;
+    }
+
+    int compressionThresholdBytes() {
+        return compressionThresholdBytes;
+    }
+
+    // Counts the SCHEMA transactions committed on a database through this client, so that schema snapshots can tell
+    // whether they are stale
+    long schemaVersion(String database) {
+        final AtomicLong version = schemaVersions.get(database);
+        return version != null ? version.get() : 0;
+    }
+
+    void schemaCommitted(String database) {
+        schemaVersions.computeIfAbsent(database, db -> new AtomicLong(0)).incrementAndGet();
+    }
+
+    /**
+     * Exposes the transport settings of the client's channels, and the settings of its session pool. Transport
+     * settings that are not set keep gRPC's defaults, and an event loop group is only created by the client (and
+     * shut down with it) if the native transport or a number of event loop threads is requested.
+     */
+    public static class Builder {
+
+        private String address = DEFAULT_URI;
+        private int channelCount = 1;
+        private boolean useNativeTransport = false;
+        @Nullable
+        private Integer eventLoopThreads = null;
+        @Nullable
+        private Executor executor = null;
+        private boolean useDirectExecutor = false;
+        @Nullable
+        private Long keepAliveTimeNanos = null;
+        @Nullable
+        private Long keepAliveTimeoutNanos = null;
+        private boolean keepAliveWithoutCalls = false;
+        @Nullable
+        private Integer flowControlWindow = null;
+        @Nullable
+        private Integer maxInboundMessageSize = null;
+        private int sessionPoolMinIdle = 0;
+        private int sessionPoolMaxSize = Integer.MAX_VALUE;
+        private long sessionPoolMaxIdleNanos = TimeUnit.MINUTES.toNanos(5);
+        private long sessionPoolBorrowTimeoutNanos = TimeUnit.SECONDS.toNanos(30);
+        private String compression = null;
+        private int compressionThresholdBytes = 1024;
+
+        private Builder() {}
+
+        public Builder address(String address) {
+            this.address = address;
+            return this;
+        }
+
+        public Builder channelCount(int channelCount) {
+            if (channelCount < 1) throw new GraknClientException(NON_POSITIVE_CHANNEL_COUNT.message(channelCount));
+            this.channelCount = channelCount;
+            return this;
+        }
+
+        /** Uses the native epoll transport where it is available (Linux), falling back to NIO elsewhere. */
+        public Builder useNativeTransport(boolean useNativeTransport) {
+            this.useNativeTransport = useNativeTransport;
+            return this;
+        }
+
+        public Builder eventLoopThreads(int eventLoopThreads) {
+            this.eventLoopThreads = positive("eventLoopThreads", eventLoopThreads);
+            return this;
+        }
+
+        /** Sets the executor that runs gRPC callbacks, including response handling for every transaction. */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            this.useDirectExecutor = false;
+            return this;
+        }
+
+        /** Runs gRPC callbacks directly on the event loop threads. Only safe if no callback ever blocks. */
+        public Builder directExecutor() {
+            this.executor = null;
+            this.useDirectExecutor = true;
+            return this;
+        }
+
+        public Builder keepAliveTime(long keepAliveTime, TimeUnit unit) {
+            this.keepAliveTimeNanos = unit.toNanos(positive("keepAliveTime", keepAliveTime));
+            return this;
+        }
+
+        public Builder keepAliveTimeout(long keepAliveTimeout, TimeUnit unit) {
+            this.keepAliveTimeoutNanos = unit.toNanos(positive("keepAliveTimeout", keepAliveTimeout));
+            return this;
+        }
+
+        public Builder keepAliveWithoutCalls(boolean keepAliveWithoutCalls) {
+            this.keepAliveWithoutCalls = keepAliveWithoutCalls;
+            return this;
+        }
+
+        public Builder flowControlWindow(int flowControlWindow) {
+            this.flowControlWindow = positive("flowControlWindow", flowControlWindow);
+            return this;
+        }
+
+        public Builder maxInboundMessageSize(int maxInboundMessageSize) {
+            this.maxInboundMessageSize = positive("maxInboundMessageSize", maxInboundMessageSize);
+            return this;
+        }
+
+        /** The number of idle sessions that the session pool keeps open for each database and session type in use. */
+        public Builder sessionPoolMinIdle(int sessionPoolMinIdle) {
+            if (sessionPoolMinIdle < 0) throw new GraknClientException(NEGATIVE_CLIENT_SETTING.message("sessionPoolMinIdle", sessionPoolMinIdle));
+            this.sessionPoolMinIdle = sessionPoolMinIdle;
+            return this;
+        }
+
+        /** The number of sessions that can be borrowed from the session pool at once, for each database and session type. */
+        public Builder sessionPoolMaxSize(int sessionPoolMaxSize) {
+            this.sessionPoolMaxSize = positive("sessionPoolMaxSize", sessionPoolMaxSize);
+            return this;
+        }
+
+        public Builder sessionPoolMaxIdle(long sessionPoolMaxIdle, TimeUnit unit) {
+            this.sessionPoolMaxIdleNanos = unit.toNanos(positive("sessionPoolMaxIdle", sessionPoolMaxIdle));
+            return this;
+        }
+
+        /** How long borrowing waits for a session to be given back, if the maximum number are borrowed. */
+        public Builder sessionPoolBorrowTimeout(long sessionPoolBorrowTimeout, TimeUnit unit) {
+            this.sessionPoolBorrowTimeoutNanos = unit.toNanos(positive("sessionPoolBorrowTimeout", sessionPoolBorrowTimeout));
+            return this;
+        }
+
+        /**
+         * Compresses transaction requests of at least {@code compressionThreshold} bytes with the named gRPC
+         * compressor, e.g. "gzip". Responses are compressed at the server's discretion: the client always accepts
+         * the encodings in gRPC's default decompressor registry.
+         */
+        public Builder compression(String compressorName) {
+            if (CompressorRegistry.getDefaultInstance().lookupCompressor(compressorName) == null) {
+                throw new GraknClientException(UNKNOWN_COMPRESSOR.message(compressorName));
+            }
+            this.compression = compressorName;
+            return this;
+        }
+
+        public Builder compressionThreshold(int compressionThresholdBytes) {
+            if (compressionThresholdBytes < 0) {
+                throw new GraknClientException(NEGATIVE_CLIENT_SETTING.message("compressionThreshold", compressionThresholdBytes));
+            }
+            this.compressionThresholdBytes = compressionThresholdBytes;
+            return this;
+        }
+
+        public GraknClient build() {
+            return new GraknClient(this);
+        }
+
+        private boolean isNativeTransport() {
+            return useNativeTransport && Epoll.isAvailable();
+        }
+
+        @Nullable
+        private EventLoopGroup eventLoopGroup() {
+            if (!useNativeTransport && eventLoopThreads == null) return null;
+            // A thread count of 0 lets Netty choose its default
+            final int threads = eventLoopThreads != null ? eventLoopThreads : 0;
+            return isNativeTransport() ? new EpollEventLoopGroup(threads) : new NioEventLoopGroup(threads);
+        }
+
+        private ManagedChannel channel(@Nullable EventLoopGroup eventLoopGroup) {
+            final NettyChannelBuilder builder = NettyChannelBuilder.forTarget(address).usePlaintext();
+            if (eventLoopGroup != null) {
+                builder.eventLoopGroup(eventLoopGroup)
+                        .channelType(isNativeTransport() ? EpollSocketChannel.class : NioSocketChannel.class);
+            }
+            if (useDirectExecutor) builder.directExecutor();
+            else if (executor != null) builder.executor(executor);
+            if (keepAliveTimeNanos != null) builder.keepAliveTime(keepAliveTimeNanos, TimeUnit.NANOSECONDS);
+            if (keepAliveTimeoutNanos != null) builder.keepAliveTimeout(keepAliveTimeoutNanos, TimeUnit.NANOSECONDS);
+            builder.keepAliveWithoutCalls(keepAliveWithoutCalls);
+            if (flowControlWindow != null) builder.flowControlWindow(flowControlWindow);
+            if (maxInboundMessageSize != null) builder.maxInboundMessageSize(maxInboundMessageSize);
+            return builder.build();
+        }
+
+        private static <N extends Number> N positive(String setting, N value) {
+            if (value.longValue() < 1) throw new GraknClientException(NON_POSITIVE_CLIENT_SETTING.message(setting, value));
+            return value;
+        }
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.common.exception.GraknClientException;
+import grakn.protocol.TransactionProto;
+import io.grpc.stub.ClientCallStreamObserver;
+
+import static grakn.client.common.exception.ErrorMessage.Client.RESPONSE_BUFFER_EXHAUSTED;
+
+/**
+ * Bounds the number of response messages that a transaction buffers on the client, using gRPC's manual inbound flow
+ * control: the server is granted one message credit per free slot in the buffer, and a new credit is granted each time
+ * a consumer takes a response. When the buffer is full, gRPC stops reading from the network, and HTTP/2 flow control
+ * pushes back on the server.
+ *
+ * All requests of a transaction share one gRPC stream, so one slow consumer stalls every request in the transaction,
+ * and responses to a stream that is never read to its end hold their credits for as long as the transaction is open.
+ * To guarantee progress, a consumer that is blocked while the server has no credits left grants one extra credit, and
+ * grants another every {@link #BLOCKED_GRANT_INTERVAL_MILLIS} for as long as it stays blocked with none left, since the
+ * credit may have been used up by a response to another request. Extra credits are paid back by consumed responses.
+ * At most {@code bufferSize} extra credits are outstanding at once: a consumer that is still blocked once they are
+ * spent fails, rather than letting responses to requests nobody reads grow the buffer without bound.
+ */
+class InboundFlowControl {
+
+    static final long BLOCKED_GRANT_INTERVAL_MILLIS = 10;
+
+    private final int bufferSize;
+    private ClientCallStreamObserver<TransactionProto.Transaction.Req> requestStream;
+    private int credits;
+    private int buffered;
+
+    private InboundFlowControl(int bufferSize) {
+        this.bufferSize = bufferSize;
+        credits = 0;
+        buffered = 0;
+    }
+
+    static InboundFlowControl unbounded() {
+        return new InboundFlowControl(0);
+    }
+
+    static InboundFlowControl bounded(int bufferSize) {
+        assert bufferSize > 0;
+        return new InboundFlowControl(bufferSize);
+    }
+
+    boolean isBounded() {
+        return bufferSize > 0;
+    }
+
+    /** Must be called from {@code ClientResponseObserver.beforeStart}, before the call has started. */
+    void beforeStart(ClientCallStreamObserver<TransactionProto.Transaction.Req> requestStream) {
+        if (!isBounded()) return;
+        this.requestStream = requestStream;
+        requestStream.disableAutoInboundFlowControl();
+    }
+
+    /** Must be called once the call has started. */
+    void start() {
+        if (!isBounded()) return;
+        synchronized (this) {
+            credits = bufferSize;
+            requestStream.request(bufferSize);
+        }
+    }
+
+    void onResponseReceived() {
+        if (!isBounded()) return;
+        synchronized (this) {
+            credits--;
+            buffered++;
+        }
+    }
+
+    void onResponseConsumed() {
+        if (!isBounded()) return;
+        synchronized (this) {
+            buffered--;
+            if (credits + buffered < bufferSize) grant();
+        }
+    }
+
+    /**
+     * Must be called each time a consumer blocks or wakes up without a response, while it is still waiting. Throws if
+     * the server has no credits left, and the extra credits are spent.
+     */
+    void onConsumerBlocked() {
+        if (!isBounded()) return;
+        synchronized (this) {
+            if (credits > 0) return;
+            if (credits + buffered >= 2 * bufferSize) throw new GraknClientException(RESPONSE_BUFFER_EXHAUSTED.message(bufferSize));
+            grant();
+        }
+    }
+
+    private void grant() {
+        credits++;
+        requestStream.request(1);
+    }
+}
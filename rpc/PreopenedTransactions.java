@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.Grakn.Transaction;
+import grakn.client.GraknOptions;
+
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a number of READ transactions open in the background, so that a session can hand one out without waiting
+ * for the open round trip. A READ transaction sees the data as of when it was opened, so each transaction is closed
+ * once it has waited for the maximum age. Every transaction taken or closed is replaced asynchronously.
+ */
+class PreopenedTransactions {
+
+    private static final int OPENER_THREADS = 4;
+    private static final ScheduledThreadPoolExecutor OPENER = opener();
+
+    private final RPCSession session;
+    private final int size;
+    private final long maxAgeNanos;
+    private final Queue<Preopened> ready;
+    private int opening;
+    private boolean isOpen;
+
+    PreopenedTransactions(RPCSession session, int size, long maxAgeMillis) {
+        this.session = session;
+        this.size = size;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMillis);
+        ready = new ConcurrentLinkedQueue<>();
+        opening = 0;
+        isOpen = true;
+        replenish();
+    }
+
+    @Nullable
+    RPCTransaction poll() {
+        Preopened candidate;
+        RPCTransaction transaction = null;
+        while (transaction == null && (candidate = ready.poll()) != null) {
+            candidate.cancelExpiry();
+            // The transaction's stream may have failed while it waited
+            if (candidate.transaction.isOpen()) transaction = candidate.transaction;
+            else candidate.transaction.close();
+        }
+        replenish();
+        return transaction;
+    }
+
+    void close() {
+        synchronized (this) {
+            isOpen = false;
+        }
+        Preopened candidate;
+        while ((candidate = ready.poll()) != null) {
+            candidate.cancelExpiry();
+            candidate.transaction.close();
+        }
+    }
+
+    private void replenish() {
+        final int missing;
+        synchronized (this) {
+            if (!isOpen) return;
+            missing = size - ready.size() - opening;
+            if (missing <= 0) return;
+            opening += missing;
+        }
+        for (int i = 0; i < missing; i++) OPENER.execute(this::openOne);
+    }
+
+    private void openOne() {
+        try {
+            final RPCTransaction transaction = session.openTransaction(Transaction.Type.READ, new GraknOptions());
+            final boolean keep;
+            synchronized (this) {
+                keep = isOpen;
+                if (keep) {
+                    final Preopened preopened = new Preopened(transaction);
+                    ready.add(preopened);
+                    preopened.expiry = OPENER.schedule(() -> expire(preopened), maxAgeNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            if (!keep) transaction.close();
+        } catch (RuntimeException e) {
+            // The session may have been closed, or the server may be unavailable: retry on the next replenish
+        } finally {
+            synchronized (this) {
+                opening--;
+            }
+        }
+    }
+
+    private void expire(Preopened preopened) {
+        // Unless it has been handed out or closed meanwhile
+        if (!ready.remove(preopened)) return;
+        preopened.transaction.close();
+        replenish();
+    }
+
+    private static ScheduledThreadPoolExecutor opener() {
+        final ScheduledThreadPoolExecutor opener = new ScheduledThreadPoolExecutor(OPENER_THREADS, runnable -> {
+            final Thread thread = new Thread(runnable, "grakn-transaction-opener");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most transactions are handed out before they expire, so cancelled expiries should not pile up in the queue
+        opener.setRemoveOnCancelPolicy(true);
+        return opener;
+    }
+
+    private static class Preopened {
+
+        private final RPCTransaction transaction;
+        @Nullable
+        private volatile ScheduledFuture<?> expiry;
+
+        private Preopened(RPCTransaction transaction) {
+            this.transaction = transaction;
+        }
+
+        private void cancelExpiry() {
+            final ScheduledFuture<?> expiry = this.expiry;
+            if (expiry != null) expiry.cancel(false);
+        }
+    }
+}
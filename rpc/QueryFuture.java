@@ -21,21 +21,59 @@ package grakn.client.rpc;
 
 import grakn.client.common.exception.GraknClientException;
 import grakn.protocol.TransactionProto;
-import io.grpc.stub.StreamObserver;
 
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The response is transformed, and functions passed to {@link #map} are applied, on the thread that calls {@code get},
+ * never on the gRPC thread that receives the responses of the whole transaction, so they may block.
+ */
 public class QueryFuture<T> implements Future<T> {
 
-    private final RPCTransaction.ResponseCollector.Single collector;
-    private final Function<TransactionProto.Transaction.Res, T> transformResponse;
+    private final CompletableFuture<TransactionProto.Transaction.Res> response;
+    private final Function<TransactionProto.Transaction.Res, ? extends T> transformResponse;
+    @Nullable
+    private final InboundFlowControl flowControl;
+    private T result;
+    private boolean isTransformed;
 
-    QueryFuture(RPCTransaction.ResponseCollector.Single collector, Function<TransactionProto.Transaction.Res, T> transformResponse) {
-        this.collector = collector;
+    QueryFuture(ResponseCollector.Single collector, Function<TransactionProto.Transaction.Res, T> transformResponse) {
+        this(collector.response(), transformResponse, collector.flowControl);
+    }
+
+    private QueryFuture(CompletableFuture<TransactionProto.Transaction.Res> response,
+                        Function<TransactionProto.Transaction.Res, ? extends T> transformResponse, @Nullable InboundFlowControl flowControl) {
+        this.response = response;
         this.transformResponse = transformResponse;
+        this.flowControl = flowControl;
+        isTransformed = false;
+    }
+
+    /** Returns a future for a value that is known without asking the server. */
+    public static <T> QueryFuture<T> completed(T value) {
+        return new QueryFuture<>(CompletableFuture.completedFuture(null), res -> value, null);
+    }
+
+    public <U> QueryFuture<U> map(Function<? super T, ? extends U> function) {
+        return new QueryFuture<>(response, transformResponse.andThen(function), flowControl);
+    }
+
+    /**
+     * Returns a {@link CompletionStage} that completes when the response arrives. The response is transformed, and
+     * dependent actions that are not registered with an executor run, on the common {@link java.util.concurrent.ForkJoinPool}.
+     */
+    public CompletionStage<T> asCompletionStage() {
+        return response.thenApplyAsync(this::transform);
     }
 
     @Override
@@ -50,28 +88,64 @@ public class QueryFuture<T> implements Future<T> {
 
     @Override
     public boolean isDone() {
-        return collector.isDone();
+        return response.isDone();
     }
 
     @Override
     public T get() {
         try {
-            final TransactionProto.Transaction.Res res = collector.take();
-            return transformResponse.apply(res);
+            awaitGranting(Long.MAX_VALUE);
+            return transform(response.get());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new GraknClientException(e);
+        } catch (ExecutionException e) {
+            throw failure(e);
         }
     }
 
     @Override
     public T get(long timeout, TimeUnit unit) {
         try {
-            final TransactionProto.Transaction.Res res = collector.take(timeout, unit);
-            return transformResponse.apply(res);
+            return transform(response.get(awaitGranting(unit.toNanos(timeout)), NANOSECONDS));
         } catch (InterruptedException | TimeoutException e) {
             if (e instanceof InterruptedException) Thread.currentThread().interrupt();
             throw new GraknClientException(e);
+        } catch (ExecutionException e) {
+            throw failure(e);
         }
     }
+
+    /**
+     * Waits for the response while granting the transaction's stream flow control credits (see
+     * {@link InboundFlowControl}), and returns how much of the timeout is left.
+     */
+    private long awaitGranting(long timeoutNanos) throws InterruptedException {
+        if (flowControl == null || !flowControl.isBounded()) return timeoutNanos;
+        final long startNanos = System.nanoTime();
+        long remainingNanos = timeoutNanos;
+        while (!response.isDone() && remainingNanos > 0) {
+            flowControl.onConsumerBlocked();
+            try {
+                response.get(Math.min(remainingNanos, MILLISECONDS.toNanos(InboundFlowControl.BLOCKED_GRANT_INTERVAL_MILLIS)), NANOSECONDS);
+            } catch (ExecutionException | TimeoutException ignored) {
+                // The failure is reported by the caller's own get
+            }
+            remainingNanos = timeoutNanos - (System.nanoTime() - startNanos);
+        }
+        return Math.max(remainingNanos, 0);
+    }
+
+    private synchronized T transform(TransactionProto.Transaction.Res res) {
+        if (!isTransformed) {
+            result = transformResponse.apply(res);
+            isTransformed = true;
+        }
+        return result;
+    }
+
+    private static RuntimeException failure(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) return (RuntimeException) e.getCause();
+        else return new GraknClientException(e);
+    }
 }
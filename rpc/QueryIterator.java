@@ -22,32 +22,32 @@ package grakn.client.rpc;
 import com.google.common.collect.AbstractIterator;
 import grakn.client.common.exception.GraknClientException;
 import grakn.protocol.TransactionProto;
-import io.grpc.stub.StreamObserver;
 
 import java.util.Iterator;
-import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static grakn.client.common.exception.ErrorMessage.Client.MISSING_RESPONSE;
 import static grakn.common.util.Objects.className;
 
 class QueryIterator<T> extends AbstractIterator<T> {
 
-    private final UUID requestId;
-    private final StreamObserver<TransactionProto.Transaction.Req> requestObserver;
-    private final RPCTransaction.ResponseCollector.Multiple responseCollector;
+    private final ResponseCollector.Multiple responseCollector;
     private final Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse;
     private Iterator<T> currentIterator;
 
-    QueryIterator(UUID requestId, StreamObserver<TransactionProto.Transaction.Req> requestObserver,
-                  RPCTransaction.ResponseCollector.Multiple responseCollector, Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse) {
-        this.requestId = requestId;
+    QueryIterator(ResponseCollector.Multiple responseCollector, Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse) {
         this.transformResponse = transformResponse;
-        this.requestObserver = requestObserver;
         this.responseCollector = responseCollector;
     }
 
+    /** Returns a stream of the query's answers, which cancels the query when it is closed. */
+    static <T> Stream<T> stream(ResponseCollector.Multiple responseCollector, Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse) {
+        final QueryIterator<T> queryIterator = new QueryIterator<>(responseCollector, transformResponse);
+        return StreamSupport.stream(((Iterable<T>) () -> queryIterator).spliterator(), false).onClose(responseCollector::cancel);
+    }
+
     @Override
     protected T computeNext() {
         if (currentIterator != null && currentIterator.hasNext()) {
@@ -64,9 +64,7 @@ class QueryIterator<T> extends AbstractIterator<T> {
 
         switch (res.getResCase()) {
             case CONTINUE:
-                final TransactionProto.Transaction.Req continueReq = TransactionProto.Transaction.Req.newBuilder()
-                        .setId(requestId.toString()).setContinue(true).build();
-                requestObserver.onNext(continueReq);
+                responseCollector.onBatchConsumed();
                 return computeNext();
             case DONE:
                 return endOfData();
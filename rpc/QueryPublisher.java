@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.common.exception.GraknClientException;
+import grakn.protocol.TransactionProto;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static grakn.client.common.exception.ErrorMessage.Client.MISSING_RESPONSE;
+import static grakn.client.common.exception.ErrorMessage.Client.NON_POSITIVE_DEMAND;
+import static grakn.client.common.exception.ErrorMessage.Client.PUBLISHER_ALREADY_SUBSCRIBED;
+import static grakn.common.util.Objects.className;
+
+/**
+ * A push-based, non-blocking alternative to the {@link java.util.stream.Stream} returned by a streamed query. The
+ * nested {@link Subscriber} and {@link Subscription} interfaces have the same contract as their counterparts in
+ * Reactive Streams (and {@code java.util.concurrent.Flow}), which this client cannot depend on while it targets
+ * Java 8, so that adapting a publisher to either only takes a thin wrapper.
+ *
+ * The query is sent when a subscriber subscribes, and only one subscriber is supported. The next batch of answers
+ * is only requested from the server while the subscriber has outstanding demand. Subscriber methods are called on
+ * the gRPC thread that receives responses for the whole transaction, or on the thread that calls
+ * {@link Subscription#request(long)}, so they must not block.
+ */
+public class QueryPublisher<T> {
+
+    private final Supplier<ResponseCollector.Multiple> query;
+    private final Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse;
+    private final AtomicBoolean isSubscribed;
+
+    QueryPublisher(Supplier<ResponseCollector.Multiple> query, Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse) {
+        this.query = query;
+        this.transformResponse = transformResponse;
+        this.isSubscribed = new AtomicBoolean(false);
+    }
+
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (!isSubscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onError(new GraknClientException(PUBLISHER_ALREADY_SUBSCRIBED));
+            return;
+        }
+
+        final ResponseCollector.Multiple collector;
+        try {
+            collector = query.get();
+        } catch (GraknClientException e) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onError(e);
+            return;
+        }
+        final QuerySubscription subscription = new QuerySubscription(collector, subscriber);
+        subscriber.onSubscribe(subscription);
+        collector.listen(subscription::drain);
+        subscription.drain();
+    }
+
+    public interface Subscriber<T> {
+
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    public interface Subscription {
+
+        void request(long n);
+
+        void cancel();
+    }
+
+    private static final Subscription CANCELLED = new Subscription() {
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    };
+
+    private class QuerySubscription implements Subscription {
+
+        private final ResponseCollector.Multiple collector;
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand;
+        /** Serialises signals to the subscriber: only the thread that increments this from 0 may drain. */
+        private final AtomicInteger drainRequests;
+        private volatile boolean isTerminated;
+        private volatile RuntimeException invalidRequest;
+        private Iterator<T> currentBatch;
+
+        QuerySubscription(ResponseCollector.Multiple collector, Subscriber<? super T> subscriber) {
+            this.collector = collector;
+            this.subscriber = subscriber;
+            demand = new AtomicLong(0);
+            drainRequests = new AtomicInteger(0);
+            isTerminated = false;
+            invalidRequest = null;
+            currentBatch = Collections.emptyIterator();
+        }
+
+        @Override
+        public void request(long n) {
+            if (isTerminated) return;
+            if (n <= 0) invalidRequest = new IllegalArgumentException(NON_POSITIVE_DEMAND.message(n));
+            else demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            isTerminated = true;
+            collector.cancel();
+        }
+
+        void drain() {
+            if (drainRequests.getAndIncrement() != 0) return;
+            do {
+                try {
+                    drainAvailable();
+                } catch (RuntimeException e) {
+                    isTerminated = true;
+                    collector.cancel();
+                    subscriber.onError(e);
+                }
+            } while (drainRequests.decrementAndGet() != 0);
+        }
+
+        private void drainAvailable() {
+            if (invalidRequest != null && !isTerminated) throw invalidRequest;
+            while (!isTerminated) {
+                if (currentBatch.hasNext()) {
+                    if (demand.get() == 0) return;
+                    demand.decrementAndGet();
+                    subscriber.onNext(currentBatch.next());
+                    continue;
+                }
+
+                // Only move past the end of a batch, which requests the next one, if the subscriber wants more answers
+                final Response next = collector.peek();
+                if (next == null) return;
+                if (demand.get() == 0 && next instanceof Response.Ok &&
+                        next.read().getResCase() == TransactionProto.Transaction.Res.ResCase.CONTINUE) return;
+
+                final TransactionProto.Transaction.Res res = collector.poll();
+                if (res == null) return;
+                switch (res.getResCase()) {
+                    case CONTINUE:
+                        collector.onBatchConsumed();
+                        break;
+                    case DONE:
+                        isTerminated = true;
+                        subscriber.onComplete();
+                        return;
+                    case RES_NOT_SET:
+                        throw new GraknClientException(MISSING_RESPONSE.message(className(TransactionProto.Transaction.Res.class)));
+                    default:
+                        currentBatch = transformResponse.apply(res).iterator();
+                }
+            }
+        }
+    }
+}
@@ -23,43 +23,75 @@ import com.google.protobuf.ByteString;
 import grakn.client.Grakn.Session;
 import grakn.client.Grakn.Transaction;
 import grakn.client.GraknOptions;
+import grakn.client.concept.type.impl.SchemaSnapshot;
+import grakn.client.concept.type.impl.TypeTable;
 import grakn.protocol.GraknGrpc;
 import grakn.protocol.SessionProto;
-import io.grpc.Channel;
 
+import javax.annotation.Nullable;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static grakn.client.common.ProtoBuilder.options;
 
 public class RPCSession implements Session {
 
-    private final Channel channel;
+    private static final long DEFAULT_PREOPENED_TRANSACTION_MAX_AGE_MILLIS = 10_000;
+
+    private final GraknClient client;
+    private final ChannelPool.Lease channel;
     private final String database;
     private final Type type;
     private final ByteString sessionId;
     private final AtomicBoolean isOpen;
     private final GraknGrpc.GraknBlockingStub blockingGrpcStub;
+    private final TypeTable types;
+    private final boolean isSchemaCached;
+    @Nullable
+    private volatile SchemaSnapshot schema;
+    @Nullable
+    private final PreopenedTransactions preopenedReadTransactions;
 
     RPCSession(GraknClient client, String database, Type type, GraknOptions options) {
-        this.channel = client.channel();
+        this.client = client;
+        this.channel = client.channels().acquire();
         this.database = database;
         this.type = type;
-        blockingGrpcStub = GraknGrpc.newBlockingStub(channel);
+        this.types = new TypeTable();
+        // The schema can only change under a DATA session through another session
+        this.isSchemaCached = type == Type.DATA && options.schemaCache().orElse(false);
+        blockingGrpcStub = GraknGrpc.newBlockingStub(channel.channel());
 
         final SessionProto.Session.Open.Req openReq = SessionProto.Session.Open.Req.newBuilder()
                 .setDatabase(database).setType(sessionType(type)).setOptions(options(options)).build();
 
-        sessionId = blockingGrpcStub.sessionOpen(openReq).getSessionId();
+        try {
+            sessionId = blockingGrpcStub.sessionOpen(openReq).getSessionId();
+        } catch (RuntimeException e) {
+            channel.release();
+            throw e;
+        }
         isOpen = new AtomicBoolean(true);
+        preopenedReadTransactions = options.preopenedReadTransactions().map(size -> new PreopenedTransactions(
+                this, size, options.preopenedTransactionMaxAgeMillis().orElse(DEFAULT_PREOPENED_TRANSACTION_MAX_AGE_MILLIS)
+        )).orElse(null);
     }
 
     @Override
     public Transaction transaction(Transaction.Type type) {
+        // Pre-opened transactions are opened with the default options, so they can only stand in for this overload
+        if (type.isRead() && preopenedReadTransactions != null) {
+            final RPCTransaction transaction = preopenedReadTransactions.poll();
+            if (transaction != null) return transaction;
+        }
         return transaction(type, new GraknOptions());
     }
 
     @Override
     public Transaction transaction(Transaction.Type type, GraknOptions options) {
+        return openTransaction(type, options);
+    }
+
+    RPCTransaction openTransaction(Transaction.Type type, GraknOptions options) {
         return new RPCTransaction(this, sessionId, type, options);
     }
 
@@ -76,7 +108,12 @@ public class RPCSession implements Session {
     @Override
     public void close() {
         if (isOpen.compareAndSet(true, false)) {
-            blockingGrpcStub.sessionClose(SessionProto.Session.Close.Req.newBuilder().setSessionId(sessionId).build());
+            if (preopenedReadTransactions != null) preopenedReadTransactions.close();
+            try {
+                blockingGrpcStub.sessionClose(SessionProto.Session.Close.Req.newBuilder().setSessionId(sessionId).build());
+            } finally {
+                channel.release();
+            }
         }
     }
 
@@ -85,7 +122,36 @@ public class RPCSession implements Session {
         return database;
     }
 
-    Channel channel() { return channel; }
+    // Transactions are striped across the client's channels independently of the session that opened them
+    ChannelPool.Lease acquireChannel() { return client.channels().acquire(); }
+
+    GraknClient client() {
+        return client;
+    }
+
+    TypeTable types() {
+        types.sync(client.schemaVersion(database));
+        return types;
+    }
+
+    @Nullable
+    SchemaSnapshot schema() {
+        if (!isSchemaCached) return null;
+        final long version = client.schemaVersion(database);
+        SchemaSnapshot schema = this.schema;
+        if (schema == null || schema.version() < version) {
+            synchronized (this) {
+                schema = this.schema;
+                if (schema == null || schema.version() < version) {
+                    try (RPCTransaction transaction = openTransaction(Transaction.Type.READ, new GraknOptions().schemaCache(false))) {
+                        schema = SchemaSnapshot.load(transaction, version);
+                    }
+                    this.schema = schema;
+                }
+            }
+        }
+        return schema;
+    }
 
     private static SessionProto.Session.Type sessionType(Session.Type type) {
         switch (type) {
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.Grakn.Session;
+import grakn.client.Grakn.SessionPool;
+import grakn.client.Grakn.Transaction;
+import grakn.client.GraknOptions;
+import grakn.client.common.exception.GraknClientException;
+
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static grakn.client.common.exception.ErrorMessage.Client.SESSION_POOL_CLOSED;
+import static grakn.client.common.exception.ErrorMessage.Client.SESSION_POOL_EXHAUSTED;
+
+/**
+ * Keeps a partition of open sessions per database and session type. Borrowing takes the most recently returned
+ * session that is still open, and only opens a new one if there is none. A background thread closes sessions that
+ * have been idle for longer than the maximum idle time, drops sessions that have been closed, and opens sessions
+ * ahead of time so that each partition in use keeps at least the minimum number of idle sessions. Whether a session is
+ * open is only known from the client's side: a session that the server has dropped is handed out, and fails when used.
+ * Borrowing waits for a session to be given back if the maximum number are borrowed, and fails if none is in time.
+ */
+class RPCSessionPool implements SessionPool {
+
+    private static final long MAINTENANCE_INTERVAL_MILLIS = 1000;
+
+    private final GraknClient client;
+    private final int minIdle;
+    private final int maxSize;
+    private final long maxIdleNanos;
+    private final long borrowTimeoutNanos;
+    private final ConcurrentMap<Key, Partition> partitions;
+    private final AtomicBoolean isOpen;
+    private ScheduledExecutorService maintenance;
+
+    RPCSessionPool(GraknClient client, int minIdle, int maxSize, long maxIdleNanos, long borrowTimeoutNanos) {
+        this.client = client;
+        this.minIdle = minIdle;
+        this.maxSize = maxSize;
+        this.maxIdleNanos = maxIdleNanos;
+        this.borrowTimeoutNanos = borrowTimeoutNanos;
+        partitions = new ConcurrentHashMap<>();
+        isOpen = new AtomicBoolean(true);
+    }
+
+    @Override
+    public Session borrow(String database, Session.Type type) {
+        if (!isOpen.get()) throw new GraknClientException(SESSION_POOL_CLOSED);
+        return partitions.computeIfAbsent(new Key(database, type), this::createPartition).borrow();
+    }
+
+    @Override
+    public void close() {
+        if (isOpen.compareAndSet(true, false)) {
+            synchronized (this) {
+                if (maintenance != null) maintenance.shutdownNow();
+            }
+            partitions.values().forEach(Partition::close);
+        }
+    }
+
+    private Partition createPartition(Key key) {
+        synchronized (this) {
+            if (maintenance == null) {
+                maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "grakn-session-pool");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                maintenance.scheduleWithFixedDelay(this::maintain, MAINTENANCE_INTERVAL_MILLIS, MAINTENANCE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+        return new Partition(key);
+    }
+
+    private void maintain() {
+        partitions.values().forEach(partition -> {
+            try {
+                partition.maintain();
+            } catch (RuntimeException e) {
+                // The server may be unavailable: the sessions will be reopened on the next run, or on demand
+            }
+        });
+    }
+
+    private class Partition {
+
+        private final Key key;
+        /** Idle sessions, most recently returned first. */
+        private final Deque<IdleSession> idle;
+        /** Limits the number of sessions that are borrowed at the same time. */
+        private final Semaphore borrowPermits;
+
+        private Partition(Key key) {
+            this.key = key;
+            idle = new ConcurrentLinkedDeque<>();
+            borrowPermits = new Semaphore(maxSize);
+        }
+
+        private Session borrow() {
+            try {
+                if (!borrowPermits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    throw new GraknClientException(SESSION_POOL_EXHAUSTED.message(TimeUnit.NANOSECONDS.toMillis(borrowTimeoutNanos), maxSize));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new GraknClientException(e);
+            }
+            try {
+                IdleSession candidate;
+                while ((candidate = idle.pollFirst()) != null) {
+                    if (candidate.session.isOpen()) return new PooledSession(this, candidate.session);
+                }
+                return new PooledSession(this, open());
+            } catch (RuntimeException e) {
+                borrowPermits.release();
+                throw e;
+            }
+        }
+
+        private void giveBack(RPCSession session) {
+            try {
+                if (isOpen.get() && session.isOpen() && idle.size() < maxSize) {
+                    final IdleSession returned = new IdleSession(session, System.nanoTime());
+                    idle.addFirst(returned);
+                    closeIfPoolClosed(returned);
+                } else {
+                    session.close();
+                }
+            } finally {
+                borrowPermits.release();
+            }
+        }
+
+        private void maintain() {
+            idle.removeIf(candidate -> !candidate.session.isOpen());
+
+            final long now = System.nanoTime();
+            IdleSession oldest;
+            while (idle.size() > minIdle && (oldest = idle.peekLast()) != null && now - oldest.since > maxIdleNanos) {
+                if (idle.removeLastOccurrence(oldest)) oldest.session.close();
+            }
+
+            while (isOpen.get() && idle.size() < minIdle) {
+                final IdleSession opened = new IdleSession(open(), System.nanoTime());
+                idle.addLast(opened);
+                closeIfPoolClosed(opened);
+            }
+        }
+
+        // The pool may have been closed since it was checked, after it had closed the idle sessions
+        private void closeIfPoolClosed(IdleSession added) {
+            if (!isOpen.get() && idle.removeLastOccurrence(added)) added.session.close();
+        }
+
+        private void close() {
+            IdleSession candidate;
+            while ((candidate = idle.pollFirst()) != null) candidate.session.close();
+        }
+
+        private RPCSession open() {
+            return new RPCSession(client, key.database, key.type, new GraknOptions());
+        }
+    }
+
+    private static class IdleSession {
+
+        private final RPCSession session;
+        private final long since;
+
+        private IdleSession(RPCSession session, long since) {
+            this.session = session;
+            this.since = since;
+        }
+    }
+
+    private static class PooledSession implements Session {
+
+        private final Partition partition;
+        private final RPCSession session;
+        private final AtomicBoolean isBorrowed;
+
+        private PooledSession(Partition partition, RPCSession session) {
+            this.partition = partition;
+            this.session = session;
+            this.isBorrowed = new AtomicBoolean(true);
+        }
+
+        @Override
+        public Transaction transaction(Transaction.Type type) {
+            return session.transaction(type);
+        }
+
+        @Override
+        public Transaction transaction(Transaction.Type type, GraknOptions options) {
+            return session.transaction(type, options);
+        }
+
+        @Override
+        public Type type() {
+            return session.type();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return isBorrowed.get() && session.isOpen();
+        }
+
+        @Override
+        public void close() {
+            if (isBorrowed.compareAndSet(true, false)) partition.giveBack(session);
+        }
+
+        @Override
+        public String database() {
+            return session.database();
+        }
+    }
+
+    private static class Key {
+
+        private final String database;
+        private final Session.Type type;
+        private final int hash;
+
+        private Key(String database, Session.Type type) {
+            this.database = database;
+            this.type = type;
+            this.hash = Objects.hash(database, type);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final Key that = (Key) o;
+            return this.database.equals(that.database) && this.type == that.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
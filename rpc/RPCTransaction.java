@@ -21,30 +21,29 @@ package grakn.client.rpc;
 
 import com.google.protobuf.ByteString;
 import grabl.tracing.client.GrablTracingThreadStatic.ThreadTrace;
+import grakn.client.Grakn.Session;
 import grakn.client.Grakn.Transaction;
 import grakn.client.GraknOptions;
-import grakn.client.common.exception.ErrorMessage;
 import grakn.client.common.exception.GraknClientException;
 import grakn.client.concept.ConceptManager;
+import grakn.client.concept.type.impl.SchemaSnapshot;
+import grakn.client.concept.type.impl.TypeTable;
 import grakn.client.query.QueryManager;
+import grakn.protocol.ConceptProto;
 import grakn.protocol.GraknGrpc;
 import grakn.protocol.TransactionProto;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.UUID;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import javax.annotation.Nullable;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static grabl.tracing.client.GrablTracingThreadStatic.traceOnThread;
 import static grakn.client.Grakn.Transaction.Type.WRITE;
@@ -52,16 +51,25 @@ import static grakn.client.common.ProtoBuilder.options;
 import static grakn.client.common.ProtoBuilder.tracingData;
 import static grakn.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
 import static grakn.client.common.exception.ErrorMessage.Client.UNKNOWN_REQUEST_ID;
-import static grakn.common.util.Objects.className;
 
 public class RPCTransaction implements Transaction {
 
+    public static final int DEFAULT_PIPELINE_DEPTH = 64;
+
+    private final RPCSession session;
     private final Transaction.Type type;
+    private final GraknOptions options;
     private final ConceptManager conceptManager;
     private final QueryManager queryManager;
-    private final StreamObserver<TransactionProto.Transaction.Req> requestObserver;
+    private final ChannelPool.Lease channel;
+    private final RequestWriter requestWriter;
+    private final int compressionThresholdBytes;
     private final ResponseCollectors collectors;
-    private final int networkLatencyMillis;
+    private final InboundFlowControl inboundFlowControl;
+    private final BatchSizeTuner batchSizeTuner;
+    private final RoundTripEstimator roundTrip;
+    /** Requests written to the stream that are still waiting for their (next batch of) responses. */
+    private final AtomicInteger requestsInFlight;
     private final AtomicBoolean streamIsOpen;
     // Technically nothing prevents open and close being triggered out of order, so we record both events
     private final AtomicBoolean transactionWasOpened;
@@ -69,17 +77,31 @@ public class RPCTransaction implements Transaction {
 
     RPCTransaction(RPCSession session, ByteString sessionId, Type type, GraknOptions options) {
         try (ThreadTrace ignored = traceOnThread(type == WRITE ? "tx.write" : "tx.read")) {
+            this.session = session;
             this.type = type;
+            this.options = options;
             conceptManager = new ConceptManager(this);
             queryManager = new QueryManager(this);
-            collectors = new ResponseCollectors();
+            requestsInFlight = new AtomicInteger(0);
+            batchSizeTuner = new BatchSizeTuner();
+            inboundFlowControl = options.responseBufferSize().map(InboundFlowControl::bounded).orElseGet(InboundFlowControl::unbounded);
 
             // Opening the StreamObserver exposes these atomics to another thread, so we must initialize them first.
             streamIsOpen = new AtomicBoolean(false);
             transactionWasOpened = new AtomicBoolean(false);
             transactionWasClosed = new AtomicBoolean(false);
-            requestObserver = GraknGrpc.newStub(session.channel()).transaction(responseObserver());
+            collectors = new ResponseCollectors(transactionWasClosed::get);
+            channel = session.acquireChannel();
+            roundTrip = new RoundTripEstimator(channel.roundTrip());
+            final GraknClient client = session.client();
+            final String compressor = compressor(client, options);
+            compressionThresholdBytes = options.compressionThresholdBytes().orElse(client.compressionThresholdBytes());
+            GraknGrpc.GraknStub stub = GraknGrpc.newStub(channel.channel());
+            if (compressor != null) stub = stub.withCompression(compressor);
+            requestWriter = RequestWriter.of((ClientCallStreamObserver<TransactionProto.Transaction.Req>) stub.transaction(responseObserver()),
+                                          compressor != null, options);
             streamIsOpen.set(true);
+            inboundFlowControl.start();
 
             final TransactionProto.Transaction.Req.Builder openRequest = TransactionProto.Transaction.Req.newBuilder()
                     .putAllMetadata(tracingData())
@@ -87,14 +109,28 @@ public class RPCTransaction implements Transaction {
                             .setSessionId(sessionId)
                             .setType(TransactionProto.Transaction.Type.forNumber(type.id()))
                             .setOptions(options(options)));
-            final Instant startTime = Instant.now();
+            final long startNanos = System.nanoTime();
             final TransactionProto.Transaction.Open.Res res = execute(openRequest).getOpenRes();
-            final Instant endTime = Instant.now();
+            final long endNanos = System.nanoTime();
             transactionWasOpened.set(true);
-            networkLatencyMillis = (int) ChronoUnit.MILLIS.between(startTime, endTime) - res.getProcessingTimeMillis();
+            roundTrip.record(endNanos - startNanos - TimeUnit.MILLISECONDS.toNanos(res.getProcessingTimeMillis()));
         }
     }
 
+    /**
+     * Returns the current estimate of the network round trip time of this transaction's stream, in nanoseconds.
+     */
+    public long roundTripNanos() {
+        return roundTrip.estimateNanos();
+    }
+
+    /**
+     * Returns the number of concepts whose requests pipelined reads send ahead of the one being read.
+     */
+    public int pipelineDepth() {
+        return options.pipelineDepth().orElse(DEFAULT_PIPELINE_DEPTH);
+    }
+
     @Override
     public Type type() {
         return type;
@@ -115,12 +151,24 @@ public class RPCTransaction implements Transaction {
         return queryManager;
     }
 
+    /** The types decoded by this transaction's session, shared by all its transactions. */
+    public TypeTable types() {
+        return session.types();
+    }
+
+    /** The session's schema snapshot, loaded on first use, if the session keeps one and this transaction reads from it. */
+    @Nullable
+    public SchemaSnapshot schema() {
+        return options.schemaCache().orElse(true) ? session.schema() : null;
+    }
+
     @Override
     public void commit() {
         final TransactionProto.Transaction.Req.Builder commitReq = TransactionProto.Transaction.Req.newBuilder()
                 .putAllMetadata(tracingData())
                 .setCommitReq(TransactionProto.Transaction.Commit.Req.getDefaultInstance());
         execute(commitReq);
+        if (session.type() == Session.Type.SCHEMA) session.client().schemaCommitted(session.database());
     }
 
     @Override
@@ -134,10 +182,11 @@ public class RPCTransaction implements Transaction {
     @Override
     public void close() {
         if (streamIsOpen.compareAndSet(true, false)) {
-            requestObserver.onCompleted();
+            requestWriter.complete();
         }
         if (transactionWasClosed.compareAndSet(false, true)) {
             collectors.clearWithError(new Response.Error(TRANSACTION_CLOSED));
+            channel.release();
         }
     }
 
@@ -146,169 +195,145 @@ public class RPCTransaction implements Transaction {
     }
 
     public <T> QueryFuture<T> executeAsync(TransactionProto.Transaction.Req.Builder request, Function<TransactionProto.Transaction.Res, T> transformResponse) {
+        return executeAsync(request, options, 0, transformResponse);
+    }
+
+    public <T> QueryFuture<T> executeAsync(TransactionProto.Transaction.Req.Builder request, GraknOptions queryOptions,
+                                           Function<TransactionProto.Transaction.Res, T> transformResponse) {
+        return executeAsync(request, queryOptions, queryTimeoutMillis(queryOptions), transformResponse);
+    }
+
+    private <T> QueryFuture<T> executeAsync(TransactionProto.Transaction.Req.Builder request, GraknOptions queryOptions, long timeoutMillis,
+                                            Function<TransactionProto.Transaction.Res, T> transformResponse) {
         try (ThreadTrace ignored = traceOnThread("executeAsync")) {
-            final ResponseCollector.Single responseCollector = new ResponseCollector.Single();
-            final UUID requestId = UUID.randomUUID();
-            request.setId(requestId.toString());
-            collectors.put(requestId, responseCollector);
-            requestObserver.onNext(request.build());
+            final ResponseCollector.Single responseCollector = new ResponseCollector.Single(
+                    collectors.nextRequestId(), inboundFlowControl, requestsInFlight, isRoundTripSample(request) ? roundTrip : null);
+            request.setId(ResponseCollectors.encode(responseCollector.requestId()));
+            collectors.put(responseCollector);
+            dispatch(request.build(), queryOptions, responseCollector::onSent);
+            responseCollector.enforceDeadline(timeoutMillis);
             return new QueryFuture<>(responseCollector, transformResponse);
         }
     }
 
     public <T> Stream<T> stream(TransactionProto.Transaction.Req.Builder request, Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse) {
+        return stream(request, options, transformResponse);
+    }
+
+    public <T> Stream<T> stream(TransactionProto.Transaction.Req.Builder request, GraknOptions queryOptions,
+                                Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse) {
         try (ThreadTrace ignored = traceOnThread("stream")) {
-            final ResponseCollector.Multiple responseCollector = new ResponseCollector.Multiple();
-            final UUID requestId = UUID.randomUUID();
-            request.setId(requestId.toString());
-            request.setLatencyMillis(networkLatencyMillis);
-            collectors.put(requestId, responseCollector);
-            requestObserver.onNext(request.build());
-            final QueryIterator<T> queryIterator = new QueryIterator<>(requestId, requestObserver, responseCollector, transformResponse);
-            return StreamSupport.stream(((Iterable<T>) () -> queryIterator).spliterator(), false);
+            return QueryIterator.stream(streamCollector(request, queryOptions), transformResponse);
         }
     }
 
-    private StreamObserver<TransactionProto.Transaction.Res> responseObserver() {
-        return new StreamObserver<TransactionProto.Transaction.Res>() {
-            @Override
-            public void onNext(TransactionProto.Transaction.Res res) {
-                final UUID requestId = UUID.fromString(res.getId());
-                final ResponseCollector collector = collectors.get(requestId);
-                if (collector == null) throw new GraknClientException(UNKNOWN_REQUEST_ID.message(requestId));
-                collector.add(new Response.Ok(res));
-            }
-
-            @Override
-            public void onError(Throwable error) {
-                assert error instanceof StatusRuntimeException : "The server only yields these exceptions";
-                // TODO: this isn't nice - an error from one request isn't really appropriate for all of them (see #180)
-                transactionWasClosed.set(true);
-                streamIsOpen.set(false);
-                collectors.clearWithError(new Response.Error((StatusRuntimeException) error));
-            }
-
-            @Override
-            public void onCompleted() {
-                streamIsOpen.set(false);
-                close();
+    public <T> QueryPublisher<T> publisher(TransactionProto.Transaction.Req.Builder request, GraknOptions queryOptions,
+                                           Function<TransactionProto.Transaction.Res, Stream<T>> transformResponse) {
+        return new QueryPublisher<>(() -> {
+            try (ThreadTrace ignored = traceOnThread("publisher")) {
+                return streamCollector(request, queryOptions);
             }
-        };
+        }, transformResponse);
     }
 
-    private class ResponseCollectors {
-        private final ConcurrentMap<UUID, ResponseCollector> map;
-
-        private ResponseCollectors() {
-            map = new ConcurrentHashMap<>();
-        }
-
-        private ResponseCollector get(UUID requestId) {
-            return map.get(requestId);
-        }
-
-        private synchronized void put(UUID requestId, ResponseCollector collector) {
-            if (transactionWasClosed.get()) throw new GraknClientException(TRANSACTION_CLOSED);
-            map.put(requestId, collector);
-        }
-
-        private synchronized void clearWithError(Response.Error errorResponse) {
-            map.values().parallelStream().forEach(x -> x.add(errorResponse));
-            map.clear();
-        }
+    private ResponseCollector.Multiple streamCollector(TransactionProto.Transaction.Req.Builder request, GraknOptions queryOptions) {
+        final long requestId = collectors.nextRequestId();
+        final TransactionProto.Transaction.Req continueReq = TransactionProto.Transaction.Req.newBuilder()
+                .setId(ResponseCollectors.encode(requestId)).setContinue(true).build();
+        final int readAhead = queryOptions.readAhead().orElse(options.readAhead().orElse(0));
+        final ResponseCollector.Multiple responseCollector = new ResponseCollector.Multiple(
+                requestId, inboundFlowControl, requestsInFlight, readAhead, () -> dispatch(continueReq, false, null), collectors::remove,
+                adaptBatchSize(request, queryOptions));
+        request.setId(continueReq.getId());
+        request.setLatencyMillis(roundTrip.estimateMillis());
+        collectors.put(responseCollector);
+        dispatch(request.build(), queryOptions, null);
+        responseCollector.enforceDeadline(queryTimeoutMillis(queryOptions));
+        return responseCollector;
     }
 
-    abstract static class ResponseCollector {
-        private final AtomicBoolean isDone;
-        /** gRPC response messages, errors, and notifications of abrupt termination are all sent to this blocking queue. */
-        private final BlockingQueue<Response> responseBuffer;
-
-        ResponseCollector() {
-            isDone = new AtomicBoolean(false);
-            responseBuffer = new LinkedBlockingQueue<>();
-        }
-
-        void add(Response response) {
-            responseBuffer.add(response);
-            if (!(response instanceof Response.Ok) || isLastResponse(response.read())) isDone.set(true);
-        }
-
-        boolean isDone() {
-            return isDone.get();
-        }
-
-        TransactionProto.Transaction.Res take() throws InterruptedException {
-            return responseBuffer.take().read();
-        }
-
-        TransactionProto.Transaction.Res take(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
-            final Response response = responseBuffer.poll(timeout, unit);
-            if (response != null) return response.read();
-            else throw new TimeoutException();
-        }
-
-        abstract boolean isLastResponse(TransactionProto.Transaction.Res response);
-
-        static class Single extends ResponseCollector {
-
-            @Override
-            boolean isLastResponse(TransactionProto.Transaction.Res response) {
-                return true;
-            }
-        }
+    @Nullable
+    private BatchSizeTuner.Sample adaptBatchSize(TransactionProto.Transaction.Req.Builder request, GraknOptions queryOptions) {
+        final boolean isAdaptive = queryOptions.adaptiveBatchSize().orElse(options.adaptiveBatchSize().orElse(false));
+        // Concept API streams carry no options, and an explicit batch size always wins
+        if (!isAdaptive || !request.hasQueryReq() || queryOptions.batchSize().isPresent()) return null;
+        final int batchSize = batchSizeTuner.batchSize(roundTrip.estimateNanos());
+        request.getQueryReqBuilder().getOptionsBuilder().setBatchSize(batchSize);
+        return batchSizeTuner.newSample();
+    }
 
-        static class Multiple extends ResponseCollector {
+    private long queryTimeoutMillis(GraknOptions queryOptions) {
+        return queryOptions.queryTimeoutMillis().orElse(options.queryTimeoutMillis().orElse(0L));
+    }
 
-            @Override
-            boolean isLastResponse(TransactionProto.Transaction.Res response) {
-                return response.getDone();
-            }
+    // Queries, commits and writes spend an unknown time on the server, so only concept API reads, which the server answers
+    // straight away, measure the round trip. A workload of queries alone still takes a sample as each transaction opens,
+    // as the open response reports the server's processing time, and each transaction starts from its channel's estimate.
+    private static boolean isRoundTripSample(TransactionProto.Transaction.Req.Builder request) {
+        if (request.hasConceptManagerReq()) {
+            final ConceptProto.ConceptManager.Req req = request.getConceptManagerReq();
+            return req.hasGetThingReq() || req.hasGetTypeReq() || req.hasGetRuleReq();
+        } else if (request.hasThingReq()) {
+            final ConceptProto.Thing.Req req = request.getThingReq();
+            return req.hasThingGetTypeReq() || req.hasThingIsInferredReq();
+        } else if (request.hasTypeReq()) {
+            final ConceptProto.Type.Req req = request.getTypeReq();
+            return req.hasTypeIsAbstractReq() || req.hasTypeGetSupertypeReq() || req.hasRelationTypeGetRelatesForRoleLabelReq() ||
+                    req.hasRoleTypeGetRelationTypeReq() || req.hasAttributeTypeGetRegexReq() || req.hasAttributeTypeGetReq();
+        } else {
+            return false;
         }
     }
 
-    abstract static class Response {
-
-        abstract TransactionProto.Transaction.Res read();
+    @Nullable
+    private static String compressor(GraknClient client, GraknOptions options) {
+        if (!options.compression().orElse(true)) return null;
+        else if (client.compression() != null) return client.compression();
+        else if (options.compression().isPresent()) return "gzip";
+        else return null;
+    }
 
-        static class Ok extends Response {
-            private final TransactionProto.Transaction.Res response;
+    private void dispatch(TransactionProto.Transaction.Req request, GraknOptions queryOptions, @Nullable LongConsumer onSent) {
+        final boolean compress = requestWriter.isCompressing() && queryOptions.compression().orElse(true) &&
+                request.getSerializedSize() >= queryOptions.compressionThresholdBytes().orElse(compressionThresholdBytes);
+        dispatch(request, compress, onSent);
+    }
 
-            Ok(TransactionProto.Transaction.Res response) {
-                this.response = response;
-            }
+    private void dispatch(TransactionProto.Transaction.Req request, boolean compress, @Nullable LongConsumer onSent) {
+        requestWriter.write(request, compress, onSent);
+    }
 
+    private StreamObserver<TransactionProto.Transaction.Res> responseObserver() {
+        return new ClientResponseObserver<TransactionProto.Transaction.Req, TransactionProto.Transaction.Res>() {
             @Override
-            TransactionProto.Transaction.Res read() {
-                return response;
+            public void beforeStart(ClientCallStreamObserver<TransactionProto.Transaction.Req> requestStream) {
+                inboundFlowControl.beforeStart(requestStream);
             }
 
             @Override
-            public String toString() {
-                return className(getClass()) + "{" + response + "}";
-            }
-        }
-
-        static class Error extends Response {
-            private final GraknClientException error;
-
-            Error(StatusRuntimeException error) {
-                // TODO: parse different gRPC errors into specific GraknClientException
-                this.error = new GraknClientException(error);
-            }
-
-            Error(ErrorMessage error) {
-                this.error = new GraknClientException(error);
+            public void onNext(TransactionProto.Transaction.Res res) {
+                inboundFlowControl.onResponseReceived();
+                final ResponseCollector collector = collectors.get(ResponseCollectors.decode(res.getId()));
+                if (collector == null) throw new GraknClientException(UNKNOWN_REQUEST_ID.message(res.getId()));
+                collector.add(new Response.Ok(res));
+                if (collector.isDone()) collectors.remove(collector);
             }
 
             @Override
-            TransactionProto.Transaction.Res read() {
-                throw error;
+            public void onError(Throwable error) {
+                assert error instanceof StatusRuntimeException : "The server only yields these exceptions";
+                // TODO: this isn't nice - an error from one request isn't really appropriate for all of them (see #180)
+                transactionWasClosed.set(true);
+                streamIsOpen.set(false);
+                collectors.clearWithError(new Response.Error((StatusRuntimeException) error));
+                channel.release();
             }
 
             @Override
-            public String toString() {
-                return className(getClass()) + "{" + error + "}";
+            public void onCompleted() {
+                streamIsOpen.set(false);
+                close();
             }
-        }
+        };
     }
 }
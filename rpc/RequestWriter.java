@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.GraknOptions;
+import grakn.protocol.TransactionProto;
+import io.grpc.stub.CallStreamObserver;
+
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Writes requests to a transaction's request stream, which is not thread-safe.
+ *
+ * When coalescing is enabled, requests are queued and written in bursts by a single thread. gRPC still flushes after
+ * every message, but the Netty transport queues writes and flushes for its event loop, so a burst of messages that are
+ * written back to back mostly leaves in fewer socket writes than the same messages written by contending threads. A
+ * request that arrives while another thread is writing is picked up by that thread. A request that arrives within the
+ * coalescing window of the previous burst waits for the window to elapse, or for {@code maxBatch} requests to be
+ * queued, whichever comes first. An idle stream, or a window of zero, is never delayed.
+ *
+ * If the call has a compressor, each request is compressed or not as decided by the caller. A caller that times its
+ * request is told when the request was actually written, after any time it spent queued.
+ *
+ * Once the stream is completed, requests are dropped instead of written, including those still queued for a burst that
+ * was scheduled before; the transaction fails every request that is still waiting for its response as it closes.
+ */
+class RequestWriter {
+
+    private static final int DEFAULT_MAX_BATCH = 64;
+    private static final ScheduledExecutorService FLUSHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "grakn-request-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final CallStreamObserver<TransactionProto.Transaction.Req> requestStream;
+    private final boolean isCompressing;
+    private final boolean isCoalescing;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final ReentrantLock writeLock;
+    private final Queue<PendingRequest> pending;
+    private final AtomicInteger pendingCount;
+    private final AtomicBoolean isFlushScheduled;
+    private volatile long lastFlushNanos;
+    private volatile boolean isCompleted;
+
+    private RequestWriter(CallStreamObserver<TransactionProto.Transaction.Req> requestStream, boolean isCompressing,
+                          boolean isCoalescing, long windowNanos, int maxBatch) {
+        this.requestStream = requestStream;
+        this.isCompressing = isCompressing;
+        this.isCoalescing = isCoalescing;
+        this.windowNanos = windowNanos;
+        this.maxBatch = maxBatch;
+        writeLock = new ReentrantLock();
+        pending = new ConcurrentLinkedQueue<>();
+        pendingCount = new AtomicInteger(0);
+        isFlushScheduled = new AtomicBoolean(false);
+        lastFlushNanos = System.nanoTime() - windowNanos;
+        isCompleted = false;
+    }
+
+    static RequestWriter of(CallStreamObserver<TransactionProto.Transaction.Req> requestStream, boolean isCompressing, GraknOptions options) {
+        if (!options.writeCoalescingWindowMicros().isPresent() && !options.writeCoalescingMaxBatch().isPresent()) {
+            return direct(requestStream, isCompressing);
+        }
+        return coalescing(requestStream, isCompressing, MICROSECONDS.toNanos(options.writeCoalescingWindowMicros().orElse(0L)),
+                          options.writeCoalescingMaxBatch().orElse(DEFAULT_MAX_BATCH));
+    }
+
+    static RequestWriter direct(CallStreamObserver<TransactionProto.Transaction.Req> requestStream, boolean isCompressing) {
+        return new RequestWriter(requestStream, isCompressing, false, 0, 1);
+    }
+
+    static RequestWriter coalescing(CallStreamObserver<TransactionProto.Transaction.Req> requestStream, boolean isCompressing,
+                                    long windowNanos, int maxBatch) {
+        assert windowNanos >= 0 && maxBatch > 0;
+        return new RequestWriter(requestStream, isCompressing, true, windowNanos, maxBatch);
+    }
+
+    boolean isCompressing() {
+        return isCompressing;
+    }
+
+    void write(TransactionProto.Transaction.Req request, boolean compress, @Nullable LongConsumer onSent) {
+        if (!isCoalescing) {
+            writeLock.lock();
+            try {
+                send(request, compress, onSent);
+            } finally {
+                writeLock.unlock();
+            }
+            return;
+        }
+
+        if (isCompleted) return;
+        pending.add(new PendingRequest(request, compress, onSent));
+        final int queued = pendingCount.incrementAndGet();
+        if (windowNanos == 0 || queued >= maxBatch || System.nanoTime() - lastFlushNanos >= windowNanos) {
+            flush();
+        } else if (isFlushScheduled.compareAndSet(false, true)) {
+            FLUSHER.schedule(() -> {
+                isFlushScheduled.set(false);
+                flush();
+            }, windowNanos, NANOSECONDS);
+        }
+    }
+
+    /** Writes out any queued requests, then half-closes the request stream. */
+    void complete() {
+        writeLock.lock();
+        try {
+            if (isCompleted) return;
+            drain();
+            isCompleted = true;
+            requestStream.onCompleted();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void flush() {
+        // If another thread holds the lock, it will find our request when it re-checks the queue before leaving
+        do {
+            if (!writeLock.tryLock()) return;
+            try {
+                drain();
+            } finally {
+                writeLock.unlock();
+            }
+        } while (!pending.isEmpty());
+    }
+
+    private void drain() {
+        PendingRequest request;
+        int written = 0;
+        while ((request = pending.poll()) != null) {
+            send(request.request, request.compress, request.onSent);
+            written++;
+        }
+        if (written > 0) {
+            pendingCount.addAndGet(-written);
+            lastFlushNanos = System.nanoTime();
+        }
+    }
+
+    // Only called while holding the write lock, which complete() also holds
+    private void send(TransactionProto.Transaction.Req request, boolean compress, @Nullable LongConsumer onSent) {
+        if (isCompleted) return;
+        if (isCompressing) requestStream.setMessageCompression(compress);
+        requestStream.onNext(request);
+        if (onSent != null) onSent.accept(System.nanoTime());
+    }
+
+    private static class PendingRequest {
+
+        private final TransactionProto.Transaction.Req request;
+        private final boolean compress;
+        @Nullable
+        private final LongConsumer onSent;
+
+        private PendingRequest(TransactionProto.Transaction.Req request, boolean compress, @Nullable LongConsumer onSent) {
+            this.request = request;
+            this.compress = compress;
+            this.onSent = onSent;
+        }
+    }
+}
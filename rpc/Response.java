@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.common.exception.ErrorMessage;
+import grakn.client.common.exception.GraknClientException;
+import grakn.protocol.TransactionProto;
+import io.grpc.StatusRuntimeException;
+
+import static grakn.common.util.Objects.className;
+
+abstract class Response {
+
+    abstract TransactionProto.Transaction.Res read();
+
+    static class Ok extends Response {
+        private final TransactionProto.Transaction.Res response;
+
+        Ok(TransactionProto.Transaction.Res response) {
+            this.response = response;
+        }
+
+        @Override
+        TransactionProto.Transaction.Res read() {
+            return response;
+        }
+
+        @Override
+        public String toString() {
+            return className(getClass()) + "{" + response + "}";
+        }
+    }
+
+    static class Error extends Response {
+        private final GraknClientException error;
+
+        Error(StatusRuntimeException error) {
+            // TODO: parse different gRPC errors into specific GraknClientException
+            this.error = new GraknClientException(error);
+        }
+
+        Error(ErrorMessage error) {
+            this.error = new GraknClientException(error);
+        }
+
+        GraknClientException error() {
+            return error;
+        }
+
+        @Override
+        TransactionProto.Transaction.Res read() {
+            throw error;
+        }
+
+        @Override
+        public String toString() {
+            return className(getClass()) + "{" + error + "}";
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.common.exception.ErrorMessage;
+import grakn.client.common.exception.GraknClientException;
+import grakn.protocol.TransactionProto;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static grakn.client.common.exception.ErrorMessage.Client.QUERY_STREAM_CLOSED;
+import static grakn.client.common.exception.ErrorMessage.Client.QUERY_TIMED_OUT;
+
+abstract class ResponseCollector {
+
+    private static final ScheduledExecutorService DEADLINES = deadlineScheduler();
+
+    private final long requestId;
+    final InboundFlowControl flowControl;
+    private volatile ScheduledFuture<?> deadline;
+
+    ResponseCollector(long requestId, InboundFlowControl flowControl) {
+        this.requestId = requestId;
+        this.flowControl = flowControl;
+    }
+
+    long requestId() {
+        return requestId;
+    }
+
+    abstract void add(Response response);
+
+    abstract boolean isDone();
+
+    /** Fails the request, unless it has already completed, because its deadline has passed. */
+    abstract void timeOut();
+
+    void enforceDeadline(long timeoutMillis) {
+        if (timeoutMillis > 0) deadline = DEADLINES.schedule(this::timeOut, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void cancelDeadline() {
+        final ScheduledFuture<?> deadline = this.deadline;
+        if (deadline != null) deadline.cancel(false);
+    }
+
+    private static ScheduledExecutorService deadlineScheduler() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "grakn-query-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most queries finish well within their deadline, so cancelled timers should not pile up in the queue
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * The only response to the request is handed straight to a future, which is completed on the gRPC thread.
+     *
+     * If the request samples the round trip, it is timed from when it was written to the stream, and only counts if
+     * no other request was in flight meanwhile, as it could otherwise have been held up behind that request.
+     */
+    static class Single extends ResponseCollector {
+
+        private final CompletableFuture<TransactionProto.Transaction.Res> response;
+        private final AtomicInteger requestsInFlight;
+        @Nullable
+        private final RoundTripEstimator roundTrip;
+        private long sentNanos;
+        private boolean isInFlight;
+        private boolean isAlone;
+        private boolean isFinished;
+
+        Single(long requestId, InboundFlowControl flowControl, AtomicInteger requestsInFlight, @Nullable RoundTripEstimator roundTrip) {
+            super(requestId, flowControl);
+            response = new CompletableFuture<>();
+            this.requestsInFlight = requestsInFlight;
+            this.roundTrip = roundTrip;
+            isInFlight = false;
+            isAlone = false;
+            isFinished = false;
+        }
+
+        /** Called by the request writer once the request has been written to the stream. */
+        synchronized void onSent(long sentNanos) {
+            // The response may already have arrived
+            if (isFinished) return;
+            this.sentNanos = sentNanos;
+            isInFlight = true;
+            isAlone = requestsInFlight.incrementAndGet() == 1;
+        }
+
+        /** Returns the round trip time of the request, or -1 if it was not in flight on its own. */
+        private synchronized long finish(long receivedNanos) {
+            if (isFinished) return -1;
+            isFinished = true;
+            if (!isInFlight) return -1;
+            isInFlight = false;
+            final boolean wasAlone = requestsInFlight.getAndDecrement() == 1 && isAlone;
+            return wasAlone ? receivedNanos - sentNanos : -1;
+        }
+
+        @Override
+        void add(Response response) {
+            final long roundTripNanos = finish(System.nanoTime());
+            if (roundTrip != null && roundTripNanos >= 0 && response instanceof Response.Ok) roundTrip.record(roundTripNanos);
+            if (response instanceof Response.Ok) {
+                // The response never waits in a buffer, so it is consumed as soon as it arrives
+                flowControl.onResponseConsumed();
+                this.response.complete(response.read());
+            } else {
+                this.response.completeExceptionally(((Response.Error) response).error());
+            }
+            cancelDeadline();
+        }
+
+        @Override
+        boolean isDone() {
+            return response.isDone();
+        }
+
+        /** The server still answers the request, but the response is dropped when it arrives. */
+        @Override
+        void timeOut() {
+            finish(System.nanoTime());
+            response.completeExceptionally(new GraknClientException(QUERY_TIMED_OUT));
+        }
+
+        CompletableFuture<TransactionProto.Transaction.Res> response() {
+            return response;
+        }
+    }
+
+    static class Multiple extends ResponseCollector {
+
+        private final AtomicBoolean isDone;
+        private final AtomicInteger requestsInFlight;
+        /** gRPC response messages, errors, and notifications of abrupt termination are all sent to this blocking queue. */
+        private final BlockingQueue<Response> responseBuffer;
+        private final int readAhead;
+        private final Runnable requestNextBatch;
+        private final Consumer<ResponseCollector> release;
+        @Nullable
+        private final BatchSizeTuner.Sample sample;
+        private int bufferedBatches;
+        /** Batches the server has been asked for that have not been terminated by a CONTINUE response yet. */
+        private int pendingBatches;
+        private boolean isNextBatchPending;
+        private boolean isCancelled;
+        /** Whether the stream counts towards the requests in flight, which it does while it waits for a batch. */
+        private boolean isInFlight;
+        private volatile Runnable listener;
+
+        Multiple(long requestId, InboundFlowControl flowControl, AtomicInteger requestsInFlight, int readAhead,
+                 Runnable requestNextBatch, Consumer<ResponseCollector> release, @Nullable BatchSizeTuner.Sample sample) {
+            super(requestId, flowControl);
+            isDone = new AtomicBoolean(false);
+            this.requestsInFlight = requestsInFlight;
+            responseBuffer = new LinkedBlockingQueue<>();
+            this.readAhead = readAhead;
+            this.requestNextBatch = requestNextBatch;
+            this.release = release;
+            this.sample = sample;
+            bufferedBatches = 0;
+            pendingBatches = 1;
+            isNextBatchPending = false;
+            isCancelled = false;
+            isInFlight = false;
+            synchronized (this) {
+                updateInFlight();
+            }
+        }
+
+        @Override
+        void add(Response response) {
+            final boolean isBatchEnd = response instanceof Response.Ok && response.read().getResCase() == TransactionProto.Transaction.Res.ResCase.CONTINUE;
+            if (isBatchEnd) onBatchReceived();
+            synchronized (this) {
+                if (isCancelled) {
+                    // Nobody will consume this response, so its flow control credit is returned straight away
+                    if (response instanceof Response.Ok) flowControl.onResponseConsumed();
+                    if (!(response instanceof Response.Ok) || response.read().getDone() || pendingBatches == 0) isDone.set(true);
+                    updateInFlight();
+                    return;
+                }
+                responseBuffer.add(response);
+            }
+            if (sample != null && !isBatchEnd && isAnswer(response)) sample.onAnswerReceived(response.read().getSerializedSize());
+            if (!(response instanceof Response.Ok) || response.read().getDone()) {
+                synchronized (this) {
+                    isDone.set(true);
+                    updateInFlight();
+                }
+                cancelDeadline();
+            }
+            final Runnable listener = this.listener;
+            if (listener != null) listener.run();
+        }
+
+        /** Registers a callback, run on the gRPC thread, for consumers that poll instead of blocking. */
+        void listen(Runnable listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        boolean isDone() {
+            return isDone.get();
+        }
+
+        TransactionProto.Transaction.Res take() throws InterruptedException {
+            Response response = responseBuffer.poll();
+            if (response == null) {
+                final long waitStart = System.nanoTime();
+                response = flowControl.isBounded() ? awaitGranting() : responseBuffer.take();
+                if (sample != null) sample.onConsumerWaited(System.nanoTime() - waitStart);
+            }
+            return consume(response);
+        }
+
+        private Response awaitGranting() throws InterruptedException {
+            Response response;
+            do {
+                flowControl.onConsumerBlocked();
+                response = responseBuffer.poll(InboundFlowControl.BLOCKED_GRANT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } while (response == null);
+            return response;
+        }
+
+        @Nullable
+        Response peek() {
+            return responseBuffer.peek();
+        }
+
+        @Nullable
+        TransactionProto.Transaction.Res poll() {
+            final Response response = responseBuffer.poll();
+            return response != null ? consume(response) : null;
+        }
+
+        private TransactionProto.Transaction.Res consume(Response response) {
+            // Only responses received from the server count towards the flow control window
+            if (response instanceof Response.Ok) flowControl.onResponseConsumed();
+            if (sample != null) {
+                if (isAnswer(response)) sample.onAnswerConsumed();
+                else if (response instanceof Response.Ok && response.read().getDone()) sample.finish();
+            }
+            return response.read();
+        }
+
+        private static boolean isAnswer(Response response) {
+            if (!(response instanceof Response.Ok)) return false;
+            final TransactionProto.Transaction.Res.ResCase resCase = response.read().getResCase();
+            return resCase != TransactionProto.Transaction.Res.ResCase.CONTINUE && !response.read().getDone();
+        }
+
+        /**
+         * Stops requesting batches and discards buffered answers. The 2.0.0-alpha protocol has no way to cancel a
+         * query on the server, so batches that were already requested are still received, and dropped on arrival;
+         * the collector is released once the last of them ends. A consumer that keeps reading gets an error.
+         */
+        void cancel() {
+            terminate(QUERY_STREAM_CLOSED, false);
+        }
+
+        /** The answers buffered so far are dropped too, and the consumer receives the timeout error instead. */
+        @Override
+        void timeOut() {
+            if (!terminate(QUERY_TIMED_OUT, true)) return;
+            final Runnable listener = this.listener;
+            if (listener != null) listener.run();
+        }
+
+        private boolean terminate(ErrorMessage reason, boolean onlyIfRunning) {
+            final boolean releaseNow;
+            synchronized (this) {
+                if (isCancelled || (onlyIfRunning && isDone.get())) return false;
+                isCancelled = true;
+                Response response;
+                while ((response = responseBuffer.poll()) != null) {
+                    if (response instanceof Response.Ok) flowControl.onResponseConsumed();
+                }
+                responseBuffer.add(new Response.Error(reason));
+                releaseNow = !isDone.get() && pendingBatches == 0;
+                if (releaseNow) isDone.set(true);
+                updateInFlight();
+            }
+            cancelDeadline();
+            if (sample != null) sample.finish();
+            if (releaseNow) release.accept(this);
+            return true;
+        }
+
+        /**
+         * The server waits for a CONTINUE request after every batch. If fewer than {@code readAhead} batches are
+         * buffered, we request the next batch immediately, on the gRPC thread; otherwise the request is deferred
+         * until the consumer catches up. With a read-ahead of 0, the next batch is only requested once the consumer
+         * has drained the current one.
+         */
+        private void onBatchReceived() {
+            final boolean requestNow;
+            synchronized (this) {
+                pendingBatches--;
+                bufferedBatches++;
+                requestNow = !isCancelled && bufferedBatches <= readAhead;
+                isNextBatchPending = !requestNow;
+                if (requestNow) pendingBatches++;
+                updateInFlight();
+            }
+            if (requestNow) requestNextBatch.run();
+        }
+
+        void onBatchConsumed() {
+            final boolean requestNow;
+            synchronized (this) {
+                bufferedBatches--;
+                requestNow = !isCancelled && isNextBatchPending && bufferedBatches <= readAhead;
+                if (requestNow) {
+                    isNextBatchPending = false;
+                    pendingBatches++;
+                }
+                updateInFlight();
+            }
+            if (requestNow) requestNextBatch.run();
+        }
+
+        /** Must be called holding the collector's lock, whenever the pending batches or whether it is done change. */
+        private void updateInFlight() {
+            final boolean isInFlight = pendingBatches > 0 && !isDone.get();
+            if (isInFlight == this.isInFlight) return;
+            this.isInFlight = isInFlight;
+            if (isInFlight) requestsInFlight.incrementAndGet();
+            else requestsInFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.common.exception.GraknClientException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
+
+import static grakn.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
+import static grakn.client.common.exception.ErrorMessage.Client.UNKNOWN_REQUEST_ID;
+
+/**
+ * Request IDs are allocated sequentially, so a collector is normally stored in the slot indexed by the low bits
+ * of its ID, and looking it up costs a single array read. A collector only spills into the overflow map if the
+ * request that last used its slot is still running (e.g. a long-lived stream), which is rare.
+ */
+class ResponseCollectors {
+
+    private static final int SLOT_COUNT = 256;
+
+    private final BooleanSupplier isClosed;
+    private final AtomicLong lastRequestId;
+    private final AtomicReferenceArray<ResponseCollector> slots;
+    private final ConcurrentMap<Long, ResponseCollector> overflow;
+
+    ResponseCollectors(BooleanSupplier isClosed) {
+        this.isClosed = isClosed;
+        lastRequestId = new AtomicLong(0);
+        slots = new AtomicReferenceArray<>(SLOT_COUNT);
+        overflow = new ConcurrentHashMap<>();
+    }
+
+    long nextRequestId() {
+        return lastRequestId.incrementAndGet();
+    }
+
+    ResponseCollector get(long requestId) {
+        final ResponseCollector collector = slots.get(slot(requestId));
+        if (collector != null && collector.requestId() == requestId) return collector;
+        else return overflow.get(requestId);
+    }
+
+    void put(ResponseCollector collector) {
+        if (isClosed.getAsBoolean()) throw new GraknClientException(TRANSACTION_CLOSED);
+        if (!slots.compareAndSet(slot(collector.requestId()), null, collector)) overflow.put(collector.requestId(), collector);
+        // The transaction may have been closed concurrently, after clearWithError had already visited this slot
+        if (isClosed.getAsBoolean()) {
+            remove(collector);
+            throw new GraknClientException(TRANSACTION_CLOSED);
+        }
+    }
+
+    void remove(ResponseCollector collector) {
+        if (!slots.compareAndSet(slot(collector.requestId()), collector, null)) overflow.remove(collector.requestId(), collector);
+    }
+
+    void clearWithError(Response.Error errorResponse) {
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            final ResponseCollector collector = slots.getAndSet(i, null);
+            if (collector != null) collector.add(errorResponse);
+        }
+        overflow.values().forEach(collector -> collector.add(errorResponse));
+        overflow.clear();
+    }
+
+    // Request IDs are only unique within a transaction, so a short base-36 counter is enough
+    static String encode(long requestId) {
+        return Long.toString(requestId, Character.MAX_RADIX);
+    }
+
+    static long decode(String requestId) {
+        try {
+            return Long.parseLong(requestId, Character.MAX_RADIX);
+        } catch (NumberFormatException e) {
+            throw new GraknClientException(UNKNOWN_REQUEST_ID.message(requestId));
+        }
+    }
+
+    private int slot(long requestId) {
+        return (int) (requestId & (SLOT_COUNT - 1));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import javax.annotation.Nullable;
+
+/**
+ * A smoothed estimate of the network round trip time, in nanoseconds, in the style of TCP's SRTT: every sample moves
+ * the estimate an eighth of the way towards it. Samples are clamped at zero, so the estimate is never negative.
+ *
+ * A transaction's estimator also feeds the estimator of the channel it runs on, and starts from the channel's
+ * estimate, so a new transaction does not have to rediscover the network.
+ */
+class RoundTripEstimator {
+
+    private static final int SMOOTHING_SHIFT = 3;
+
+    @Nullable
+    private final RoundTripEstimator parent;
+    private long estimateNanos;
+    private boolean hasSamples;
+
+    RoundTripEstimator() {
+        this(null);
+    }
+
+    RoundTripEstimator(@Nullable RoundTripEstimator parent) {
+        this.parent = parent;
+        if (parent != null) {
+            synchronized (parent) {
+                estimateNanos = parent.estimateNanos;
+                hasSamples = parent.hasSamples;
+            }
+        }
+    }
+
+    void record(long sampleNanos) {
+        final long sample = Math.max(sampleNanos, 0);
+        synchronized (this) {
+            if (!hasSamples) {
+                estimateNanos = sample;
+                hasSamples = true;
+            } else {
+                estimateNanos += (sample - estimateNanos) >> SMOOTHING_SHIFT;
+            }
+        }
+        if (parent != null) parent.record(sample);
+    }
+
+    synchronized long estimateNanos() {
+        return estimateNanos;
+    }
+
+    /** The estimate in whole milliseconds, rounded to the nearest, as carried by the protocol's latency field. */
+    int estimateMillis() {
+        return (int) Math.min((estimateNanos() + 500_000) / 1_000_000, Integer.MAX_VALUE);
+    }
+}
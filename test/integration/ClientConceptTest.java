@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.integration;
+
+import grakn.client.BulkLoader;
+import grakn.client.Grakn.Client;
+import grakn.client.Grakn.Session;
+import grakn.client.Grakn.Transaction;
+import grakn.client.GraknOptions;
+import grakn.client.concept.answer.ConceptMap;
+import grakn.client.concept.thing.Attribute;
+import grakn.client.concept.thing.Entity;
+import grakn.client.concept.thing.IID;
+import grakn.client.concept.thing.Relation;
+import grakn.client.concept.thing.Thing;
+import grakn.client.concept.type.AttributeType;
+import grakn.client.concept.type.EntityType;
+import grakn.client.concept.type.RoleType;
+import grakn.client.concept.type.ThingType;
+import grakn.client.rpc.GraknClient;
+import grakn.common.test.server.GraknCoreRunner;
+import graql.lang.Graql;
+import graql.lang.common.GraqlArg;
+import graql.lang.query.GraqlInsert;
+import graql.lang.query.GraqlMatch;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static grakn.client.Grakn.Transaction.Type.READ;
+import static grakn.client.Grakn.Transaction.Type.WRITE;
+import static graql.lang.Graql.type;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ClientConceptTest {
+
+    private static final String DATABASE = "grakn-concept";
+    private static GraknCoreRunner grakn;
+    private static Client graknClient;
+
+    @BeforeClass
+    public static void setUpClass() throws InterruptedException, IOException, TimeoutException {
+        grakn = new GraknCoreRunner();
+        grakn.start();
+        graknClient = new GraknClient(grakn.address());
+        graknClient.databases().create(DATABASE);
+        try (Session session = graknClient.session(DATABASE, Session.Type.SCHEMA);
+             Transaction tx = session.transaction(WRITE)) {
+            tx.query().define(Graql.define(
+                    type("name").sub("attribute").value(GraqlArg.ValueType.STRING),
+                    type("employment").sub("relation").relates("employee").relates("employer"),
+                    type("person").sub("entity").owns("name").plays("employment", "employee"),
+                    type("company").sub("entity").owns("name").plays("employment", "employer")
+            ));
+            tx.commit();
+        }
+    }
+
+    @AfterClass
+    public static void closeSession() throws Exception {
+        graknClient.close();
+        grakn.stop();
+    }
+
+    @Test
+    public void schemaCacheAnswersTypeReadsAndIsReloadedAfterASchemaCommit() {
+        try (Session session = graknClient.session(DATABASE, Session.Type.DATA, new GraknOptions().schemaCache(true))) {
+            try (Transaction tx = session.transaction(READ)) {
+                final EntityType person = tx.concepts().getEntityType("person");
+                assertEquals("entity", person.asRemote(tx).getSupertype().getLabel());
+                assertEquals(Collections.singletonList("name"),
+                             person.asRemote(tx).getOwns().map(AttributeType::getLabel).collect(Collectors.toList()));
+                assertNull(tx.concepts().getEntityType("department"));
+            }
+            try (Session schemaSession = graknClient.session(DATABASE, Session.Type.SCHEMA);
+                 Transaction tx = schemaSession.transaction(WRITE)) {
+                tx.query().define(Graql.define(type("department").sub("entity")));
+                tx.commit();
+            }
+            try (Transaction tx = session.transaction(READ)) {
+                assertNotNull(tx.concepts().getEntityType("department"));
+            }
+        }
+    }
+
+    @Test
+    public void getThingTypesResolvesTheTypesOfManyThings() {
+        try (Session session = graknClient.session(DATABASE, Session.Type.DATA);
+             Transaction tx = session.transaction(WRITE)) {
+            final Entity person = tx.concepts().getEntityType("person").asRemote(tx).create();
+            final Entity company = tx.concepts().getEntityType("company").asRemote(tx).create();
+            final Map<IID, ThingType> types = tx.concepts().getThingTypes(Arrays.asList(person.iid(), company.iid(), person.iid()));
+            assertEquals(2, types.size());
+            assertEquals("person", types.get(person.iid()).getLabel());
+            assertEquals("company", types.get(company.iid()).getLabel());
+            // The types are now known without asking the server again
+            assertEquals("person", tx.concepts().getThing(person.iid()).asRemote(tx).getType().getLabel());
+        }
+    }
+
+    @Test
+    public void matchResolvesTheTypesOfItsThingsIfAskedTo() {
+        try (Session session = graknClient.session(DATABASE, Session.Type.DATA);
+             Transaction tx = session.transaction(WRITE)) {
+            tx.concepts().getEntityType("company").asRemote(tx).create();
+            final GraqlMatch query = Graql.match(Graql.var("x").isa("company"));
+            final List<ConceptMap> answers = tx.query().match(query, new GraknOptions().resolveThingTypes(true)).collect(Collectors.toList());
+            assertTrue(!answers.isEmpty());
+            for (ConceptMap answer : answers) assertEquals("company", answer.get("x").asThing().knownType().get().getLabel());
+        }
+    }
+
+    @Test
+    public void getHasReadsTheAttributesOfManyThings() {
+        try (Session session = graknClient.session(DATABASE, Session.Type.DATA);
+             Transaction tx = session.transaction(WRITE)) {
+            final AttributeType.String name = tx.concepts().getAttributeType("name").asString();
+            final List<Entity> people = new ArrayList<>();
+            for (String personName : Arrays.asList("alice", "bob", "carol")) {
+                final Entity person = tx.concepts().getEntityType("person").asRemote(tx).create();
+                person.asRemote(tx).setHas(name.asRemote(tx).put(personName));
+                people.add(person);
+            }
+            final Map<Thing, List<Attribute<?>>> has = tx.concepts().getHas(people, name);
+            assertEquals(people, new ArrayList<>(has.keySet()));
+            assertEquals(Collections.singletonList("alice"), values(has.get(people.get(0))));
+            assertEquals(Collections.singletonList("carol"), values(has.get(people.get(2))));
+        }
+    }
+
+    @Test
+    public void getPlayersByRoleTypeReadsThePlayersOfManyRelations() {
+        try (Session session = graknClient.session(DATABASE, Session.Type.DATA);
+             Transaction tx = session.transaction(WRITE)) {
+            final RoleType employee = tx.concepts().getRelationType("employment").asRemote(tx).getRelates("employee");
+            final RoleType employer = tx.concepts().getRelationType("employment").asRemote(tx).getRelates("employer");
+            final Entity company = tx.concepts().getEntityType("company").asRemote(tx).create();
+            final List<Relation> employments = new ArrayList<>();
+            final List<Entity> employees = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                final Entity person = tx.concepts().getEntityType("person").asRemote(tx).create();
+                final Relation employment = tx.concepts().getRelationType("employment").asRemote(tx).create();
+                employment.asRemote(tx).addPlayer(employee, person);
+                employment.asRemote(tx).addPlayer(employer, company);
+                employments.add(employment);
+                employees.add(person);
+            }
+            try (Stream<Map.Entry<Relation, Map<RoleType, List<? extends Thing>>>> players =
+                         tx.concepts().getPlayersByRoleType(employments.stream())) {
+                final List<Map.Entry<Relation, Map<RoleType, List<? extends Thing>>>> read = players.collect(Collectors.toList());
+                assertEquals(employments, read.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+                for (int i = 0; i < 3; i++) {
+                    assertEquals(Collections.singletonList(employees.get(i)), playersOf(read.get(i).getValue(), "employee"));
+                    assertEquals(Collections.singletonList(company), playersOf(read.get(i).getValue(), "employer"));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void bulkLoaderCommitsEveryBatchAndReportsFailedOnes() {
+        final List<List<GraqlInsert>> failed = Collections.synchronizedList(new ArrayList<>());
+        final BulkLoader loader = BulkLoader.builder(graknClient, DATABASE).sessions(2).transactionsPerSession(2).batchSize(10)
+                .onFailure((batch, failure) -> failed.add(batch)).build();
+        final Stream<GraqlInsert> queries = IntStream.range(0, 100).mapToObj(
+                i -> Graql.insert(Graql.var("x").isa("person").has("name", "bulk-" + i)));
+        final BulkLoader.Statistics statistics = loader.load(queries);
+        assertEquals(100, statistics.queries());
+        assertEquals(10, statistics.batches());
+        assertEquals(0, statistics.failedBatches());
+
+        final BulkLoader.Statistics invalid = loader.load(Stream.of(Graql.insert(Graql.var("x").isa("unicorn"))));
+        assertEquals(0, invalid.queries());
+        assertEquals(0, invalid.retries());
+        assertEquals(1, invalid.failedBatches());
+        assertEquals(1, failed.size());
+        assertTrue(invalid.lastFailure().isPresent());
+    }
+
+    private static List<Object> values(List<Attribute<?>> attributes) {
+        return attributes.stream().<Object>map(Attribute::getValue).collect(Collectors.toList());
+    }
+
+    private static List<? extends Thing> playersOf(Map<RoleType, List<? extends Thing>> players, String role) {
+        return players.entrySet().stream().filter(entry -> entry.getKey().getLabel().equals(role))
+                .findFirst().map(Map.Entry::getValue).orElse(Collections.emptyList());
+    }
+}
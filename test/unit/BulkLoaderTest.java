@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client;
+
+import grakn.client.common.exception.GraknClientException;
+import grakn.client.concept.answer.ConceptMap;
+import grakn.client.query.QueryManager;
+import grakn.client.rpc.RPCTransaction;
+import grakn.protocol.TransactionProto;
+import graql.lang.Graql;
+import graql.lang.query.GraqlInsert;
+import io.grpc.Status;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BulkLoaderTest {
+
+    private Grakn.Client client;
+    private AtomicInteger transactions;
+    private AtomicInteger inserts;
+    private AtomicInteger commits;
+    private AtomicInteger insertsInFlight;
+    private AtomicInteger maxInsertsInFlight;
+    // Inserts and commits are numbered from 1 across all transactions
+    private volatile IntPredicate failsInsert;
+    private volatile RuntimeException insertFailure;
+    private volatile IntPredicate failsCommit;
+    private volatile RuntimeException commitFailure;
+
+    @Before
+    public void setUp() {
+        client = mock(Grakn.Client.class);
+        final Grakn.Session session = mock(Grakn.Session.class);
+        when(client.session(anyString(), any(Grakn.Session.Type.class))).thenReturn(session);
+        when(session.isOpen()).thenReturn(true);
+        when(session.transaction(any(Grakn.Transaction.Type.class), any(GraknOptions.class))).thenAnswer(invocation -> transaction());
+        transactions = new AtomicInteger(0);
+        inserts = new AtomicInteger(0);
+        commits = new AtomicInteger(0);
+        insertsInFlight = new AtomicInteger(0);
+        maxInsertsInFlight = new AtomicInteger(0);
+        failsInsert = insert -> false;
+        failsCommit = commit -> false;
+    }
+
+    @Test
+    public void queriesAreCommittedInBatches() {
+        final BulkLoader.Statistics statistics = loader().batchSize(2).build().load(queries(5));
+        assertEquals(5, statistics.queries());
+        assertEquals(3, statistics.batches());
+        assertEquals(3, transactions.get());
+        assertEquals(3, commits.get());
+        assertEquals(0, statistics.retries());
+        assertEquals(0, statistics.failedBatches());
+    }
+
+    @Test
+    public void insertsOfABatchAreBoundedByThePipelineDepth() {
+        loader().batchSize(100).options(new GraknOptions().pipelineDepth(8)).build().load(queries(100));
+        assertEquals(100, inserts.get());
+        assertEquals(8, maxInsertsInFlight.get());
+    }
+
+    @Test
+    public void transientFailureIsRetried() {
+        failInsert(insert -> insert == 2, new GraknClientException(Status.UNAVAILABLE.asRuntimeException()));
+        final BulkLoader.Statistics statistics = loader().batchSize(2).build().load(queries(2));
+        assertEquals(2, statistics.queries());
+        assertEquals(1, statistics.batches());
+        assertEquals(1, statistics.retries());
+        assertEquals(2, transactions.get());
+        assertFalse(statistics.lastFailure().isPresent());
+    }
+
+    @Test
+    public void queryFailureIsNotRetried() {
+        failInsert(insert -> insert == 1, new GraknClientException("The query is invalid."));
+        final List<List<GraqlInsert>> failed = Collections.synchronizedList(new ArrayList<>());
+        final BulkLoader.Statistics statistics = loader().batchSize(2).onFailure((batch, failure) -> failed.add(batch)).build()
+                .load(queries(4));
+        assertEquals(2, statistics.queries());
+        assertEquals(0, statistics.retries());
+        assertEquals(2, statistics.failedQueries());
+        assertEquals(1, statistics.failedBatches());
+        assertEquals(1, failed.size());
+        assertEquals(queries(2).map(Object::toString).collect(toList()), failed.get(0).stream().map(Object::toString).collect(toList()));
+        assertSame(insertFailure, statistics.lastFailure().get());
+    }
+
+    @Test
+    public void batchFailsOnceItsRetriesAreSpent() {
+        failInsert(insert -> true, new GraknClientException(Status.UNAVAILABLE.asRuntimeException()));
+        final BulkLoader.Statistics statistics = loader().batchSize(1).maxRetries(2).build().load(queries(1));
+        assertEquals(0, statistics.queries());
+        assertEquals(2, statistics.retries());
+        assertEquals(1, statistics.failedBatches());
+        assertEquals(3, transactions.get());
+    }
+
+    @Test
+    public void failedCommitIsNotRetriedByDefault() {
+        failCommit(commit -> commit == 1, new GraknClientException(Status.UNAVAILABLE.asRuntimeException()));
+        final BulkLoader.Statistics statistics = loader().batchSize(2).build().load(queries(2));
+        assertEquals(0, statistics.queries());
+        assertEquals(0, statistics.retries());
+        assertEquals(1, statistics.failedBatches());
+    }
+
+    @Test
+    public void failedCommitIsRetriedIfAskedFor() {
+        failCommit(commit -> commit == 1, new GraknClientException(Status.UNAVAILABLE.asRuntimeException()));
+        final BulkLoader.Statistics statistics = loader().batchSize(2).retryFailedCommits(true).build().load(queries(2));
+        assertEquals(2, statistics.queries());
+        assertEquals(1, statistics.retries());
+        assertEquals(0, statistics.failedBatches());
+    }
+
+    @Test(timeout = 10_000)
+    public void failureCallbackThatThrowsAbortsTheLoad() {
+        failInsert(insert -> true, new GraknClientException("The query is invalid."));
+        final IllegalStateException callbackFailure = new IllegalStateException("The callback failed.");
+        final BulkLoader loader = loader().batchSize(1).maxQueuedBatches(1).onFailure((batch, failure) -> {
+            throw callbackFailure;
+        }).build();
+        try {
+            loader.load(queries(10));
+            fail();
+        } catch (GraknClientException e) {
+            assertSame(callbackFailure, e.getCause());
+        }
+        assertEquals(1, loader.statistics().get().failedBatches());
+        assertSame(callbackFailure, loader.statistics().get().lastFailure().get());
+    }
+
+    @Test
+    public void onlyUnreachableServerErrorsAreTransient() {
+        assertTrue(BulkLoader.isTransient(new GraknClientException(Status.UNAVAILABLE.asRuntimeException())));
+        assertTrue(BulkLoader.isTransient(Status.DEADLINE_EXCEEDED.asRuntimeException()));
+        assertFalse(BulkLoader.isTransient(new GraknClientException(Status.INVALID_ARGUMENT.asRuntimeException())));
+        assertFalse(BulkLoader.isTransient(new GraknClientException("The query is invalid.")));
+    }
+
+    private BulkLoader.Builder loader() {
+        return BulkLoader.builder(client, "bulk").sessions(1).transactionsPerSession(1).retryBackoff(0, TimeUnit.MILLISECONDS);
+    }
+
+    private void failInsert(IntPredicate failsInsert, RuntimeException failure) {
+        insertFailure = failure;
+        this.failsInsert = failsInsert;
+    }
+
+    private void failCommit(IntPredicate failsCommit, RuntimeException failure) {
+        commitFailure = failure;
+        this.failsCommit = failsCommit;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RPCTransaction transaction() {
+        transactions.incrementAndGet();
+        final RPCTransaction transaction = mock(RPCTransaction.class);
+        final QueryManager queryManager = new QueryManager(transaction);
+        when(transaction.query()).thenReturn(queryManager);
+        when(transaction.stream(any(TransactionProto.Transaction.Req.Builder.class), any(GraknOptions.class), any(Function.class)))
+                .thenAnswer(invocation -> {
+                    if (failsInsert.test(inserts.incrementAndGet())) throw insertFailure;
+                    maxInsertsInFlight.accumulateAndGet(insertsInFlight.incrementAndGet(), Math::max);
+                    return Stream.of((ConceptMap) null).peek(answer -> insertsInFlight.decrementAndGet());
+                });
+        doAnswer(invocation -> {
+            if (failsCommit.test(commits.incrementAndGet())) throw commitFailure;
+            return null;
+        }).when(transaction).commit();
+        return transaction;
+    }
+
+    private static Stream<GraqlInsert> queries(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Graql.parseQuery("insert $x isa person, has ref " + i + ";"));
+    }
+}
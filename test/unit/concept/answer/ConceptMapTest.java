@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.concept.answer;
+
+import com.google.protobuf.ByteString;
+import grakn.client.common.exception.GraknClientException;
+import grakn.client.concept.Concept;
+import grakn.protocol.AnswerProto;
+import grakn.protocol.ConceptProto;
+import graql.lang.Graql;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Function;
+
+import static grakn.client.common.exception.ErrorMessage.Concept.MISSING_IID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ConceptMapTest {
+
+    private static final String PATTERN = "{ $x isa person; }";
+
+    @Test
+    public void answersOfAQueryShareTheirParsedPattern() {
+        final Function<AnswerProto.ConceptMap, ConceptMap> reader = ConceptMap.reader(null);
+        final ConceptMap first = reader.apply(answer(PATTERN, "01"));
+        final ConceptMap second = reader.apply(answer(PATTERN, "02"));
+        assertNotNull(first.queryPattern());
+        assertSame(first.queryPattern(), second.queryPattern());
+    }
+
+    @Test
+    public void answersWithADifferentPatternDoNotShareIt() {
+        final Function<AnswerProto.ConceptMap, ConceptMap> reader = ConceptMap.reader(null);
+        final ConceptMap first = reader.apply(answer(PATTERN, "01"));
+        final ConceptMap second = reader.apply(answer("{ $x isa company; }", "02"));
+        assertEquals(Graql.parsePattern(PATTERN), first.queryPattern());
+        assertEquals(Graql.parsePattern("{ $x isa company; }"), second.queryPattern());
+    }
+
+    @Test
+    public void answerWithoutAPatternHasNone() {
+        assertNull(ConceptMap.of(answer("", "01")).queryPattern());
+    }
+
+    @Test
+    public void droppedVariablesAreNeverDecoded() {
+        // Decoding the thing bound to $y would fail, as it has no IID
+        final AnswerProto.ConceptMap res = answer(PATTERN, "01").toBuilder().putMap("y", entity("")).build();
+        final ConceptMap answer = ConceptMap.reader(Collections.singleton("x"), null).apply(res);
+        assertEquals(Collections.singleton("x"), answer.map().keySet());
+    }
+
+    @Test
+    public void variablesAreOnlyDecodedWhenRead() {
+        final AnswerProto.ConceptMap res = answer(PATTERN, "01").toBuilder().putMap("y", entity("")).build();
+        final ConceptMap answer = ConceptMap.of(res);
+        assertNotNull(answer.get("x"));
+        try {
+            answer.map();
+            fail();
+        } catch (GraknClientException e) {
+            assertEquals(MISSING_IID.toString(), e.getMessage());
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void concurrentFirstReadsDecodeTheConceptOnce() throws InterruptedException {
+        final ConceptMap answer = ConceptMap.of(answer(PATTERN, "01"));
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Concept> read = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final Thread reader = new Thread(() -> {
+                try {
+                    start.await();
+                    read.add(answer.get("x"));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        start.countDown();
+        for (Thread reader : readers) reader.join();
+        assertEquals(threads, read.size());
+        for (Concept concept : read) assertSame(read.get(0), concept);
+        // Decoding the whole map keeps the concept already handed out
+        assertSame(read.get(0), answer.map().get("x"));
+    }
+
+    private static AnswerProto.ConceptMap answer(String pattern, String iid) {
+        return AnswerProto.ConceptMap.newBuilder().setPattern(pattern).putMap("x", entity(iid)).build();
+    }
+
+    private static ConceptProto.Concept entity(String iid) {
+        return ConceptProto.Concept.newBuilder().setThing(ConceptProto.Thing.newBuilder()
+                .setIid(ByteString.copyFrom(iid.getBytes())).setEncoding(ConceptProto.Thing.ENCODING.ENTITY)).build();
+    }
+}
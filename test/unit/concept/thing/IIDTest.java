@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.concept.thing;
+
+import com.google.protobuf.ByteString;
+import grakn.client.common.exception.GraknClientException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class IIDTest {
+
+    private static final byte[] BYTES = {0x30, 0x00, 0x0a, (byte) 0xff};
+    private static final String HEX = "0x30000aff";
+
+    @Test
+    public void sharesTheBytesItWasReadFrom() {
+        final ByteString bytes = ByteString.copyFrom(BYTES);
+        assertSame(bytes, IID.of(bytes).bytes());
+    }
+
+    @Test
+    public void hexFormRoundTrips() {
+        assertEquals(HEX, IID.of(ByteString.copyFrom(BYTES)).toHexString());
+        assertEquals(ByteString.copyFrom(BYTES), IID.of(HEX).bytes());
+        assertEquals(HEX, IID.of(HEX).toString());
+    }
+
+    @Test
+    public void iidsWithTheSameBytesAreEqual() {
+        final IID fromBytes = IID.of(ByteString.copyFrom(BYTES));
+        final IID fromHex = IID.of(HEX);
+        assertEquals(fromBytes, fromHex);
+        assertEquals(fromBytes.hashCode(), fromHex.hashCode());
+        assertNotEquals(fromBytes, IID.of(ByteString.copyFrom(new byte[]{0x30, 0x00, 0x0a, 0x00})));
+    }
+
+    @Test(expected = GraknClientException.class)
+    public void emptyBytesAreRejected() {
+        IID.of(ByteString.EMPTY);
+    }
+
+    @Test(expected = GraknClientException.class)
+    public void emptyHexIsRejected() {
+        IID.of("");
+    }
+}
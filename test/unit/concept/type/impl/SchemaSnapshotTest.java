@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.concept.type.impl;
+
+import grakn.client.concept.type.Rule;
+import grakn.client.rpc.RPCTransaction;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class SchemaSnapshotTest {
+
+    private EntityTypeImpl person;
+    private RoleTypeImpl employee;
+    private RoleTypeImpl friendshipEmployee;
+    private SchemaSnapshot snapshot;
+
+    @Before
+    public void setUp() {
+        person = new EntityTypeImpl("person", false);
+        employee = new RoleTypeImpl("employee", "employment", false);
+        // The same role label in another relation is a different role
+        friendshipEmployee = new RoleTypeImpl("employee", "friendship", false);
+        final Map<String, SchemaSnapshot.Entry> thingTypes = new HashMap<>();
+        thingTypes.put("person", entry(person, Collections.singletonList(employee)));
+        final Map<String, SchemaSnapshot.Entry> roleTypes = new HashMap<>();
+        roleTypes.put("employment:employee", entry(employee, Collections.emptyList()));
+        roleTypes.put("friendship:employee", entry(friendshipEmployee, Collections.emptyList()));
+        snapshot = new SchemaSnapshot(7, thingTypes, roleTypes);
+    }
+
+    @Test
+    public void typesAreLookedUpByLabel() {
+        assertEquals(7, snapshot.version());
+        assertSame(person, snapshot.type("person"));
+        assertNull(snapshot.type("company"));
+    }
+
+    @Test
+    public void entriesAreLookedUpByRemoteType() {
+        final RPCTransaction transaction = mock(RPCTransaction.class);
+        assertEquals(Collections.singletonList(employee), snapshot.entry(person.asRemote(transaction)).plays());
+        assertNull(snapshot.entry(new EntityTypeImpl("company", false).asRemote(transaction)));
+    }
+
+    @Test
+    public void rolesAreLookedUpByScopeAndLabel() {
+        final RPCTransaction transaction = mock(RPCTransaction.class);
+        assertSame(employee, snapshot.entry(employee.asRemote(transaction)).supertype());
+        assertSame(friendshipEmployee, snapshot.entry(friendshipEmployee.asRemote(transaction)).supertype());
+        assertNull(snapshot.entry(new RoleTypeImpl("employer", "employment", false).asRemote(transaction)));
+    }
+
+    @Test
+    public void rulesAreOnlyLookedUpOnceEvenIfMissing() {
+        final AtomicInteger lookups = new AtomicInteger(0);
+        final Rule rule = mock(Rule.class);
+        assertSame(rule, snapshot.rule("rule", label -> {
+            lookups.incrementAndGet();
+            return rule;
+        }));
+        assertSame(rule, snapshot.rule("rule", label -> {
+            lookups.incrementAndGet();
+            return null;
+        }));
+        assertNull(snapshot.rule("missing", label -> {
+            lookups.incrementAndGet();
+            return null;
+        }));
+        assertNull(snapshot.rule("missing", label -> {
+            lookups.incrementAndGet();
+            return rule;
+        }));
+        assertEquals(2, lookups.get());
+    }
+
+    // The type is its own supertype here, only to tell entries apart
+    private static SchemaSnapshot.Entry entry(TypeImpl type, List<TypeImpl> plays) {
+        return new SchemaSnapshot.Entry(type, false, type, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+                                        Collections.emptyList(), plays, Collections.emptyList(), Collections.emptyList());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.concept.type.impl;
+
+import com.google.protobuf.ByteString;
+import grakn.client.concept.thing.IID;
+import grakn.protocol.ConceptProto;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TypeTableTest {
+
+    @Test
+    public void equalMessagesDecodeToTheSameType() {
+        final TypeTable table = new TypeTable();
+        final TypeImpl person = table.get(entityType("person"));
+        assertSame(person, table.get(entityType("person")));
+        assertEquals("person", person.getLabel());
+    }
+
+    @Test
+    public void redefinedTypeDecodesToANewObject() {
+        final TypeTable table = new TypeTable();
+        final TypeImpl entity = table.get(entityType("name"));
+        final TypeImpl attribute = table.get(entityType("name").toBuilder()
+                .setEncoding(ConceptProto.Type.ENCODING.ATTRIBUTE_TYPE)
+                .setValueType(ConceptProto.AttributeType.VALUE_TYPE.STRING).build());
+        assertNotSame(entity, attribute);
+        assertSame(entity, table.get(entityType("name")));
+    }
+
+    @Test
+    public void typesAreKeptHoweverManyAreDecoded() {
+        final TypeTable table = new TypeTable();
+        final TypeImpl first = table.get(entityType("type-0"));
+        for (int i = 1; i <= 20_000; i++) table.get(entityType("type-" + i));
+        assertSame(first, table.get(entityType("type-0")));
+    }
+
+    @Test
+    public void invalidateReleasesTypesAndThingTypes() {
+        final TypeTable table = new TypeTable();
+        final TypeImpl person = table.get(entityType("person"));
+        final IID thing = IID.of(ByteString.copyFrom(new byte[]{0x30, 0x01}));
+        table.putThingType(thing, person.asThingType());
+        assertSame(person, table.thingType(thing));
+        table.invalidate();
+        assertNull(table.thingType(thing));
+        assertNotSame(person, table.get(entityType("person")));
+    }
+
+    @Test
+    public void newerSchemaVersionReleasesTypesAndThingTypes() {
+        final TypeTable table = new TypeTable();
+        table.sync(1);
+        final TypeImpl person = table.get(entityType("person"));
+        final IID thing = IID.of(ByteString.copyFrom(new byte[]{0x30, 0x01}));
+        table.putThingType(thing, person.asThingType());
+        table.sync(1);
+        assertSame(person, table.get(entityType("person")));
+        assertSame(person, table.thingType(thing));
+        table.sync(2);
+        assertNull(table.thingType(thing));
+        assertNotSame(person, table.get(entityType("person")));
+    }
+
+    @Test
+    public void fullTableEvictsOnlySomeThingTypes() {
+        final TypeTable table = new TypeTable();
+        final ThingTypeImpl person = table.get(entityType("person")).asThingType();
+        for (int i = 0; i < TypeTable.MAX_THINGS; i++) table.putThingType(thing(i), person);
+        final IID last = thing(TypeTable.MAX_THINGS);
+        table.putThingType(last, person);
+        assertSame(person, table.thingType(last));
+        int kept = 0;
+        for (int i = 0; i < TypeTable.MAX_THINGS; i++) {
+            if (table.thingType(thing(i)) != null) kept++;
+        }
+        assertEquals(TypeTable.MAX_THINGS - TypeTable.MAX_THINGS / 4, kept);
+    }
+
+    @Test
+    public void decodeWithoutATableBuildsANewType() {
+        assertNotSame(TypeTable.decode(null, entityType("person")), TypeTable.decode(null, entityType("person")));
+    }
+
+    private static IID thing(int index) {
+        return IID.of(ByteString.copyFrom(new byte[]{0x30, (byte) (index >>> 16), (byte) (index >>> 8), (byte) index}));
+    }
+
+    private static ConceptProto.Type entityType(String label) {
+        return ConceptProto.Type.newBuilder().setLabel(label).setEncoding(ConceptProto.Type.ENCODING.ENTITY_TYPE).build();
+    }
+}
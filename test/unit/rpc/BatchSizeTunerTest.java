@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchSizeTunerTest {
+
+    private static final long ROUND_TRIP_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void batchSizeStartsAtTheInitialSize() {
+        assertEquals(BatchSizeTuner.INITIAL_BATCH_SIZE, new BatchSizeTuner().batchSize(ROUND_TRIP_NANOS));
+    }
+
+    @Test
+    public void streamWithoutConsumedAnswersTeachesNothing() {
+        final BatchSizeTuner tuner = new BatchSizeTuner();
+        final BatchSizeTuner.Sample sample = tuner.newSample();
+        sample.onAnswerReceived(100);
+        sample.finish();
+        assertEquals(BatchSizeTuner.INITIAL_BATCH_SIZE, tuner.batchSize(ROUND_TRIP_NANOS));
+    }
+
+    @Test
+    public void fastConsumerGetsTheLargestBatches() {
+        final BatchSizeTuner tuner = new BatchSizeTuner();
+        finish(tuner.newSample(), 100_000, 10);
+        assertEquals(BatchSizeTuner.MAX_BATCH_SIZE, tuner.batchSize(ROUND_TRIP_NANOS));
+    }
+
+    @Test
+    public void largeAnswersCapTheBatchSize() {
+        final BatchSizeTuner tuner = new BatchSizeTuner();
+        // 4 MiB of buffered answers of 100 kB each
+        finish(tuner.newSample(), 1_000, 100_000);
+        assertEquals(41, tuner.batchSize(ROUND_TRIP_NANOS));
+    }
+
+    @Test
+    public void slowConsumerGetsTheSmallestBatches() throws InterruptedException {
+        final BatchSizeTuner tuner = new BatchSizeTuner();
+        final BatchSizeTuner.Sample sample = tuner.newSample();
+        sample.onAnswerReceived(10);
+        sample.onAnswerConsumed();
+        // At most 20 answers per second, so even 4 round trips of a millisecond hold less than one answer
+        Thread.sleep(50);
+        sample.finish();
+        assertEquals(BatchSizeTuner.MIN_BATCH_SIZE, tuner.batchSize(TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    @Test
+    public void timeSpentWaitingForTheNetworkIsNotCountedAgainstTheConsumer() throws InterruptedException {
+        final BatchSizeTuner tuner = new BatchSizeTuner();
+        final BatchSizeTuner.Sample sample = tuner.newSample();
+        for (int i = 0; i < 10; i++) {
+            sample.onAnswerReceived(10);
+            sample.onAnswerConsumed();
+        }
+        // Counted against the consumer, the wait would make it as slow as the one above
+        Thread.sleep(50);
+        sample.onConsumerWaited(TimeUnit.SECONDS.toNanos(10));
+        sample.finish();
+        assertEquals(BatchSizeTuner.MAX_BATCH_SIZE, tuner.batchSize(TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    private static void finish(BatchSizeTuner.Sample sample, int answers, int bytesPerAnswer) {
+        for (int i = 0; i < answers; i++) {
+            sample.onAnswerReceived(bytesPerAnswer);
+            sample.onAnswerConsumed();
+        }
+        sample.finish();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.common.exception.GraknClientException;
+import grakn.protocol.TransactionProto;
+import io.grpc.stub.ClientCallStreamObserver;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InboundFlowControlTest {
+
+    private RequestStream requestStream;
+    private InboundFlowControl flowControl;
+
+    @Before
+    public void setUp() {
+        requestStream = new RequestStream();
+        flowControl = InboundFlowControl.bounded(4);
+        flowControl.beforeStart(requestStream);
+        flowControl.start();
+    }
+
+    @Test
+    public void startGrantsTheWholeBuffer() {
+        assertTrue(requestStream.isAutoFlowControlDisabled);
+        assertEquals(4, requestStream.requested);
+    }
+
+    @Test
+    public void consumedResponseIsReplacedByANewCredit() {
+        receive(4);
+        assertEquals(4, requestStream.requested);
+        flowControl.onResponseConsumed();
+        assertEquals(5, requestStream.requested);
+    }
+
+    @Test
+    public void blockedConsumerWithCreditsLeftGrantsNothing() {
+        receive(3);
+        flowControl.onConsumerBlocked();
+        assertEquals(4, requestStream.requested);
+    }
+
+    @Test
+    public void blockedConsumerWithoutCreditsGrantsOne() {
+        receive(4);
+        flowControl.onConsumerBlocked();
+        assertEquals(5, requestStream.requested);
+        flowControl.onConsumerBlocked();
+        assertEquals(5, requestStream.requested);
+    }
+
+    @Test
+    public void blockedConsumerKeepsGrantingWhileResponsesItDoesNotReadUseUpItsCredits() {
+        // Every buffered response belongs to a stream that is never read, so none of them is ever consumed
+        receive(4);
+        for (int i = 1; i <= 3; i++) {
+            flowControl.onConsumerBlocked();
+            assertEquals(4 + i, requestStream.requested);
+            receive(1);
+        }
+    }
+
+    @Test
+    public void extraCreditsAreBoundedByTheBufferSize() {
+        receive(4);
+        for (int i = 1; i <= 4; i++) {
+            flowControl.onConsumerBlocked();
+            receive(1);
+        }
+        assertEquals(8, requestStream.requested);
+        try {
+            flowControl.onConsumerBlocked();
+            fail();
+        } catch (GraknClientException e) {
+            assertEquals(8, requestStream.requested);
+        }
+        // Once a response is consumed, a credit is granted again
+        flowControl.onResponseConsumed();
+        flowControl.onConsumerBlocked();
+        assertEquals(9, requestStream.requested);
+    }
+
+    @Test
+    public void extraCreditsArePaidBackByConsumedResponses() {
+        receive(4);
+        flowControl.onConsumerBlocked();
+        receive(1);
+        // Five responses are buffered for four slots: the next consumed response leaves four, which fill the buffer
+        flowControl.onResponseConsumed();
+        assertEquals(5, requestStream.requested);
+        flowControl.onResponseConsumed();
+        assertEquals(6, requestStream.requested);
+    }
+
+    @Test
+    public void unboundedFlowControlLeavesTheStreamAlone() {
+        final RequestStream unboundedStream = new RequestStream();
+        final InboundFlowControl unbounded = InboundFlowControl.unbounded();
+        unbounded.beforeStart(unboundedStream);
+        unbounded.start();
+        unbounded.onResponseReceived();
+        unbounded.onConsumerBlocked();
+        unbounded.onResponseConsumed();
+        assertFalse(unbounded.isBounded());
+        assertFalse(unboundedStream.isAutoFlowControlDisabled);
+        assertEquals(0, unboundedStream.requested);
+    }
+
+    private void receive(int responses) {
+        for (int i = 0; i < responses; i++) flowControl.onResponseReceived();
+    }
+
+    private static class RequestStream extends ClientCallStreamObserver<TransactionProto.Transaction.Req> {
+
+        private boolean isAutoFlowControlDisabled = false;
+        private int requested = 0;
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            isAutoFlowControlDisabled = true;
+        }
+
+        @Override
+        public void request(int count) {
+            requested += count;
+        }
+
+        @Override
+        public void cancel(@Nullable String message, @Nullable Throwable cause) {}
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {}
+
+        @Override
+        public void setMessageCompression(boolean enable) {}
+
+        @Override
+        public void onNext(TransactionProto.Transaction.Req value) {}
+
+        @Override
+        public void onError(Throwable t) {}
+
+        @Override
+        public void onCompleted() {}
+    }
+}
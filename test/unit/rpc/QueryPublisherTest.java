@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.protocol.QueryProto;
+import grakn.protocol.TransactionProto;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static grakn.client.common.exception.ErrorMessage.Client.NON_POSITIVE_DEMAND;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class QueryPublisherTest {
+
+    private final AtomicInteger continues = new AtomicInteger(0);
+    private final InboundFlowControl flowControl = InboundFlowControl.unbounded();
+    private final ResponseCollector.Multiple collector = new ResponseCollector.Multiple(
+            1, flowControl, new AtomicInteger(0), 0, continues::incrementAndGet, released -> {}, null
+    );
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    @Test
+    public void answersAreOnlyPushedWhileTheSubscriberHasDemand() {
+        subscribe();
+        receive(answer(), answer(), batchEnd());
+        assertEquals(0, subscriber.items.size());
+        subscriber.subscription.request(1);
+        assertEquals(1, subscriber.items.size());
+        subscriber.subscription.request(1);
+        assertEquals(2, subscriber.items.size());
+        // The next batch is only requested once the subscriber asks for more than the current batch holds
+        assertEquals(0, continues.get());
+        subscriber.subscription.request(1);
+        assertEquals(1, continues.get());
+        receive(answer(), done());
+        assertEquals(3, subscriber.items.size());
+        assertTrue(subscriber.isComplete);
+        assertEquals(0, subscriber.errors.size());
+    }
+
+    @Test
+    public void cancellingTheSubscriptionCancelsTheQuery() {
+        subscribe();
+        receive(answer(), answer(), batchEnd());
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        assertTrue(collector.isDone());
+        subscriber.subscription.request(5);
+        assertEquals(1, subscriber.items.size());
+        assertEquals(0, continues.get());
+        assertFalse(subscriber.isComplete);
+        assertEquals(0, subscriber.errors.size());
+    }
+
+    @Test
+    public void nonPositiveDemandIsAnError() {
+        subscribe();
+        subscriber.subscription.request(0);
+        assertEquals(1, subscriber.errors.size());
+        assertTrue(subscriber.errors.get(0) instanceof IllegalArgumentException);
+        assertEquals(NON_POSITIVE_DEMAND.message(0), subscriber.errors.get(0).getMessage());
+        // The query is cancelled, so later answers and demand are ignored
+        receive(answer(), batchEnd());
+        subscriber.subscription.request(1);
+        assertEquals(0, subscriber.items.size());
+        assertEquals(0, continues.get());
+        assertEquals(1, subscriber.errors.size());
+        assertTrue(collector.isDone());
+    }
+
+    private void subscribe() {
+        new QueryPublisher<>(() -> collector, res -> Stream.of(res)).subscribe(subscriber);
+    }
+
+    private void receive(TransactionProto.Transaction.Res... responses) {
+        for (TransactionProto.Transaction.Res response : responses) {
+            flowControl.onResponseReceived();
+            collector.add(new Response.Ok(response));
+        }
+    }
+
+    private static TransactionProto.Transaction.Res answer() {
+        return TransactionProto.Transaction.Res.newBuilder().setQueryRes(QueryProto.Query.Res.getDefaultInstance()).build();
+    }
+
+    private static TransactionProto.Transaction.Res batchEnd() {
+        return TransactionProto.Transaction.Res.newBuilder().setContinue(true).build();
+    }
+
+    private static TransactionProto.Transaction.Res done() {
+        return TransactionProto.Transaction.Res.newBuilder().setDone(true).build();
+    }
+
+    private static class RecordingSubscriber implements QueryPublisher.Subscriber<TransactionProto.Transaction.Res> {
+
+        private final List<TransactionProto.Transaction.Res> items = new ArrayList<>();
+        private final List<Throwable> errors = new ArrayList<>();
+        private QueryPublisher.Subscription subscription;
+        private boolean isComplete = false;
+
+        @Override
+        public void onSubscribe(QueryPublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(TransactionProto.Transaction.Res item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            errors.add(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            isComplete = true;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.protocol.TransactionProto;
+import io.grpc.stub.CallStreamObserver;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RequestWriterTest {
+
+    private static final long LONG_WINDOW_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private RequestStream requestStream;
+
+    @Before
+    public void setUp() {
+        requestStream = new RequestStream();
+    }
+
+    @Test
+    public void directWriterWritesEveryRequestStraightAway() {
+        final RequestWriter writer = RequestWriter.direct(requestStream, false);
+        writer.write(request("1"), false, null);
+        writer.write(request("2"), false, null);
+        assertEquals(asList("1", "2"), requestStream.written());
+    }
+
+    @Test
+    public void requestToAnIdleStreamIsNotDelayed() {
+        final RequestWriter writer = RequestWriter.coalescing(requestStream, false, LONG_WINDOW_NANOS, 4);
+        writer.write(request("1"), false, null);
+        assertEquals(asList("1"), requestStream.written());
+    }
+
+    @Test
+    public void requestsWithinTheWindowWaitUntilMaxBatchAreQueued() {
+        final RequestWriter writer = RequestWriter.coalescing(requestStream, false, LONG_WINDOW_NANOS, 3);
+        writer.write(request("1"), false, null);
+        writer.write(request("2"), false, null);
+        writer.write(request("3"), false, null);
+        assertEquals(asList("1"), requestStream.written());
+        writer.write(request("4"), false, null);
+        assertEquals(asList("1", "2", "3", "4"), requestStream.written());
+    }
+
+    @Test
+    public void requestsWithinTheWindowAreWrittenOnceItElapses() throws InterruptedException {
+        final RequestWriter writer = RequestWriter.coalescing(requestStream, false, TimeUnit.MILLISECONDS.toNanos(50), 64);
+        writer.write(request("1"), false, null);
+        writer.write(request("2"), false, null);
+        writer.write(request("3"), false, null);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (requestStream.written().size() < 3 && System.nanoTime() < deadline) Thread.sleep(5);
+        assertEquals(asList("1", "2", "3"), requestStream.written());
+    }
+
+    @Test
+    public void requestIsTimedFromWhenItIsWritten() {
+        final RequestWriter writer = RequestWriter.coalescing(requestStream, false, LONG_WINDOW_NANOS, 2);
+        final AtomicLong sentNanos = new AtomicLong(0);
+        writer.write(request("1"), false, null);
+        final long beforeNanos = System.nanoTime();
+        writer.write(request("2"), false, sentNanos::set);
+        assertEquals(0, sentNanos.get());
+        writer.write(request("3"), false, null);
+        assertTrue(sentNanos.get() >= beforeNanos);
+    }
+
+    @Test
+    public void completeWritesQueuedRequestsFirst() {
+        final RequestWriter writer = RequestWriter.coalescing(requestStream, false, LONG_WINDOW_NANOS, 64);
+        writer.write(request("1"), false, null);
+        writer.write(request("2"), false, null);
+        writer.complete();
+        assertEquals(asList("1", "2"), requestStream.written());
+        assertEquals(1, requestStream.completions);
+    }
+
+    @Test
+    public void requestsWrittenAfterCompleteAreDropped() {
+        final RequestWriter coalescing = RequestWriter.coalescing(requestStream, false, 0, 64);
+        coalescing.complete();
+        coalescing.write(request("1"), false, null);
+        coalescing.complete();
+        assertEquals(0, requestStream.written().size());
+        assertEquals(1, requestStream.completions);
+
+        final RequestStream directStream = new RequestStream();
+        final RequestWriter direct = RequestWriter.direct(directStream, false);
+        direct.complete();
+        direct.write(request("1"), false, null);
+        assertEquals(0, directStream.written().size());
+    }
+
+    @Test
+    public void compressionIsOnlySetIfTheCallHasACompressor() {
+        RequestWriter.direct(requestStream, false).write(request("1"), true, null);
+        assertEquals(0, requestStream.compressionSettings.size());
+        RequestWriter.direct(requestStream, true).write(request("2"), true, null);
+        RequestWriter.direct(requestStream, true).write(request("3"), false, null);
+        assertEquals(asList(true, false), requestStream.compressionSettings);
+    }
+
+    private static TransactionProto.Transaction.Req request(String id) {
+        return TransactionProto.Transaction.Req.newBuilder().setId(id).build();
+    }
+
+    private static class RequestStream extends CallStreamObserver<TransactionProto.Transaction.Req> {
+
+        private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+        private final List<Boolean> compressionSettings = new ArrayList<>();
+        private int completions = 0;
+
+        private List<String> written() {
+            synchronized (written) {
+                return new ArrayList<>(written);
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {}
+
+        @Override
+        public void disableAutoInboundFlowControl() {}
+
+        @Override
+        public void request(int count) {}
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+            compressionSettings.add(enable);
+        }
+
+        @Override
+        public void onNext(TransactionProto.Transaction.Req value) {
+            written.add(value.getId());
+        }
+
+        @Override
+        public void onError(Throwable t) {}
+
+        @Override
+        public void onCompleted() {
+            completions++;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.common.exception.GraknClientException;
+import grakn.protocol.QueryProto;
+import grakn.protocol.TransactionProto;
+import io.grpc.stub.ClientCallStreamObserver;
+import org.junit.Test;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static grakn.client.common.exception.ErrorMessage.Client.QUERY_STREAM_CLOSED;
+import static grakn.client.common.exception.ErrorMessage.Client.QUERY_TIMED_OUT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ResponseCollectorTest {
+
+    private final AtomicInteger continues = new AtomicInteger(0);
+    private final AtomicInteger requestsInFlight = new AtomicInteger(0);
+    private final List<ResponseCollector> released = new ArrayList<>();
+    private InboundFlowControl flowControl = InboundFlowControl.unbounded();
+    private RequestStream requestStream;
+
+    @Test
+    public void readAheadRequestsTheNextBatchBeforeTheCurrentOneIsRead() throws InterruptedException {
+        final ResponseCollector.Multiple collector = multiple(1);
+        receive(collector, answer(), answer(), batchEnd());
+        assertEquals(1, continues.get());
+        // Only one batch may be buffered ahead of the consumer
+        receive(collector, answer(), batchEnd());
+        assertEquals(1, continues.get());
+        takeBatch(collector, 2);
+        assertEquals(2, continues.get());
+    }
+
+    @Test
+    public void withoutReadAheadTheNextBatchIsRequestedOnceTheCurrentOneIsRead() throws InterruptedException {
+        final ResponseCollector.Multiple collector = multiple(0);
+        receive(collector, answer(), answer(), batchEnd());
+        assertEquals(0, continues.get());
+        takeBatch(collector, 2);
+        assertEquals(1, continues.get());
+        receive(collector, answer(), done());
+        assertEquals(TransactionProto.Transaction.Res.ResCase.QUERY_RES, collector.take().getResCase());
+        assertTrue(collector.take().getDone());
+        assertTrue(collector.isDone());
+        assertEquals(1, continues.get());
+    }
+
+    @Test
+    public void streamCountsAsInFlightOnlyWhileItWaitsForABatch() throws InterruptedException {
+        final ResponseCollector.Multiple collector = multiple(0);
+        assertEquals(1, requestsInFlight.get());
+        receive(collector, answer(), batchEnd());
+        assertEquals(0, requestsInFlight.get());
+        takeBatch(collector, 1);
+        assertEquals(1, requestsInFlight.get());
+        receive(collector, done());
+        assertEquals(0, requestsInFlight.get());
+    }
+
+    @Test
+    public void closingTheStreamCancelsTheQueryAndReturnsTheCreditsOfItsBufferedAnswers() {
+        boundFlowControl(4);
+        final ResponseCollector.Multiple collector = multiple(0);
+        final Stream<TransactionProto.Transaction.Res> stream = QueryIterator.stream(collector, res -> Stream.of(res));
+        receive(collector, answer(), answer(), answer());
+        assertEquals(4, requestStream.requested);
+        stream.close();
+        assertEquals(7, requestStream.requested);
+        assertStreamClosed(collector);
+        // The batch already requested still arrives, and each of its responses is dropped, and its credit returned
+        receive(collector, answer());
+        assertEquals(8, requestStream.requested);
+        assertFalse(collector.isDone());
+        receive(collector, batchEnd());
+        assertTrue(collector.isDone());
+        assertEquals(0, continues.get());
+        assertEquals(0, requestsInFlight.get());
+    }
+
+    @Test
+    public void cancelledQueryWithNoBatchPendingIsReleasedStraightAway() {
+        final ResponseCollector.Multiple collector = multiple(0);
+        receive(collector, answer(), batchEnd());
+        collector.cancel();
+        assertTrue(collector.isDone());
+        assertEquals(Collections.singletonList(collector), released);
+        assertEquals(0, continues.get());
+        assertStreamClosed(collector);
+    }
+
+    @Test
+    public void cancellingTwiceHasNoFurtherEffect() {
+        final ResponseCollector.Multiple collector = multiple(0);
+        receive(collector, batchEnd());
+        collector.cancel();
+        collector.cancel();
+        assertEquals(1, released.size());
+    }
+
+    @Test(timeout = 10_000)
+    public void deadlineFailsTheBlockedConsumerAndTerminatesTheStream() throws InterruptedException {
+        final ResponseCollector.Multiple collector = multiple(0);
+        final AtomicInteger notifications = new AtomicInteger(0);
+        collector.listen(notifications::incrementAndGet);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread consumer = new Thread(() -> {
+            try {
+                collector.take();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        consumer.start();
+        collector.enforceDeadline(50);
+        consumer.join();
+        assertEquals(QUERY_TIMED_OUT.toString(), failure.get().getMessage());
+        assertEquals(1, notifications.get());
+        // The batch already requested is dropped, and the collector is done once it ends
+        receive(collector, answer(), batchEnd());
+        assertTrue(collector.isDone());
+        assertEquals(0, continues.get());
+        assertEquals(0, requestsInFlight.get());
+    }
+
+    @Test
+    public void deadlineOfAFinishedStreamIsIgnored() throws InterruptedException {
+        final ResponseCollector.Multiple collector = multiple(0);
+        receive(collector, answer(), done());
+        collector.timeOut();
+        assertEquals(TransactionProto.Transaction.Res.ResCase.QUERY_RES, collector.take().getResCase());
+        assertTrue(collector.take().getDone());
+    }
+
+    @Test(timeout = 10_000)
+    public void deadlineFailsTheFutureOfASingleResponse() {
+        final ResponseCollector.Single collector = new ResponseCollector.Single(1, flowControl, requestsInFlight, null);
+        final QueryFuture<TransactionProto.Transaction.Res> future = new QueryFuture<>(collector, res -> res);
+        collector.enforceDeadline(20);
+        try {
+            future.get();
+            fail();
+        } catch (GraknClientException e) {
+            assertEquals(QUERY_TIMED_OUT.toString(), e.getMessage());
+        }
+        // The response still arrives, and is dropped
+        receive(collector, answer());
+        assertTrue(collector.isDone());
+    }
+
+    private ResponseCollector.Multiple multiple(int readAhead) {
+        return new ResponseCollector.Multiple(1, flowControl, requestsInFlight, readAhead, continues::incrementAndGet, released::add, null);
+    }
+
+    private void receive(ResponseCollector collector, TransactionProto.Transaction.Res... responses) {
+        for (TransactionProto.Transaction.Res response : responses) {
+            flowControl.onResponseReceived();
+            collector.add(new Response.Ok(response));
+        }
+    }
+
+    /** Reads the given number of answers and the end of their batch, as a query iterator does. */
+    private static void takeBatch(ResponseCollector.Multiple collector, int answers) throws InterruptedException {
+        for (int i = 0; i < answers; i++) assertEquals(TransactionProto.Transaction.Res.ResCase.QUERY_RES, collector.take().getResCase());
+        assertEquals(TransactionProto.Transaction.Res.ResCase.CONTINUE, collector.take().getResCase());
+        collector.onBatchConsumed();
+    }
+
+    private static void assertStreamClosed(ResponseCollector.Multiple collector) {
+        try {
+            collector.take();
+            fail();
+        } catch (GraknClientException e) {
+            assertEquals(QUERY_STREAM_CLOSED.toString(), e.getMessage());
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private void boundFlowControl(int bufferSize) {
+        requestStream = new RequestStream();
+        flowControl = InboundFlowControl.bounded(bufferSize);
+        flowControl.beforeStart(requestStream);
+        flowControl.start();
+    }
+
+    private static TransactionProto.Transaction.Res answer() {
+        return TransactionProto.Transaction.Res.newBuilder().setQueryRes(QueryProto.Query.Res.getDefaultInstance()).build();
+    }
+
+    private static TransactionProto.Transaction.Res batchEnd() {
+        return TransactionProto.Transaction.Res.newBuilder().setContinue(true).build();
+    }
+
+    private static TransactionProto.Transaction.Res done() {
+        return TransactionProto.Transaction.Res.newBuilder().setDone(true).build();
+    }
+
+    private static class RequestStream extends ClientCallStreamObserver<TransactionProto.Transaction.Req> {
+
+        private int requested = 0;
+
+        @Override
+        public void request(int count) {
+            requested += count;
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {}
+
+        @Override
+        public void cancel(@Nullable String message, @Nullable Throwable cause) {}
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {}
+
+        @Override
+        public void setMessageCompression(boolean enable) {}
+
+        @Override
+        public void onNext(TransactionProto.Transaction.Req value) {}
+
+        @Override
+        public void onError(Throwable t) {}
+
+        @Override
+        public void onCompleted() {}
+    }
+}
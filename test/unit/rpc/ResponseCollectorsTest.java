@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.common.exception.GraknClientException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static grakn.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ResponseCollectorsTest {
+
+    private final AtomicBoolean isClosed = new AtomicBoolean(false);
+    private final ResponseCollectors collectors = new ResponseCollectors(isClosed::get);
+
+    @Test
+    public void slotIsReusedOnceItsCollectorIsRemoved() {
+        final ResponseCollector first = collector(1);
+        collectors.put(first);
+        collectors.remove(first);
+        final ResponseCollector second = collector(257);
+        collectors.put(second);
+        assertSame(second, collectors.get(257));
+        assertNull(collectors.get(1));
+    }
+
+    @Test
+    public void collectorWhoseSlotIsInUseOverflows() {
+        final ResponseCollector longLived = collector(1);
+        final ResponseCollector wrapped = collector(257);
+        collectors.put(longLived);
+        collectors.put(wrapped);
+        assertSame(longLived, collectors.get(1));
+        assertSame(wrapped, collectors.get(257));
+        collectors.remove(wrapped);
+        assertNull(collectors.get(257));
+        assertSame(longLived, collectors.get(1));
+        collectors.remove(longLived);
+        assertNull(collectors.get(1));
+    }
+
+    @Test
+    public void unknownRequestIdIsNotFound() {
+        collectors.put(collector(1));
+        assertNull(collectors.get(2));
+        assertNull(collectors.get(257));
+    }
+
+    @Test
+    public void clearWithErrorFailsCollectorsInSlotsAndOverflow() {
+        final ResponseCollector.Single inSlot = collector(1);
+        final ResponseCollector.Single overflowed = collector(257);
+        collectors.put(inSlot);
+        collectors.put(overflowed);
+        collectors.clearWithError(new Response.Error(TRANSACTION_CLOSED));
+        assertTrue(inSlot.response().isCompletedExceptionally());
+        assertTrue(overflowed.response().isCompletedExceptionally());
+        assertNull(collectors.get(1));
+        assertNull(collectors.get(257));
+    }
+
+    @Test
+    public void putOnceClosedFails() {
+        isClosed.set(true);
+        try {
+            collectors.put(collector(1));
+            fail();
+        } catch (GraknClientException e) {
+            assertNull(collectors.get(1));
+        }
+    }
+
+    @Test
+    public void requestIdsSurviveEncoding() {
+        assertEquals(1, ResponseCollectors.decode(ResponseCollectors.encode(1)));
+        assertEquals(Long.MAX_VALUE, ResponseCollectors.decode(ResponseCollectors.encode(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void concurrentPutsAndRemovesKeepEveryCollectorFindable() throws Exception {
+        final int threads = 8;
+        final int requestsPerThread = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    int found = 0;
+                    // Each thread keeps a few requests running, so that later IDs wrap onto slots still in use
+                    final List<ResponseCollector> running = new ArrayList<>();
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        final ResponseCollector collector = collector(collectors.nextRequestId());
+                        collectors.put(collector);
+                        running.add(collector);
+                        if (running.size() > 40) {
+                            final ResponseCollector done = running.remove(0);
+                            if (collectors.get(done.requestId()) == done) found++;
+                            collectors.remove(done);
+                        }
+                    }
+                    for (ResponseCollector done : running) {
+                        if (collectors.get(done.requestId()) == done) found++;
+                        collectors.remove(done);
+                    }
+                    return found;
+                }));
+            }
+            for (Future<Integer> result : results) assertEquals(requestsPerThread, (int) result.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        for (long requestId = 1; requestId <= threads * requestsPerThread; requestId++) assertNull(collectors.get(requestId));
+    }
+
+    private static ResponseCollector.Single collector(long requestId) {
+        return new ResponseCollector.Single(requestId, InboundFlowControl.unbounded(), new AtomicInteger(0), null);
+    }
+}
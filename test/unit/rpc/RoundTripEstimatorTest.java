@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.protocol.TransactionProto;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RoundTripEstimatorTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    public void firstSampleBecomesTheEstimate() {
+        final RoundTripEstimator roundTrip = new RoundTripEstimator();
+        roundTrip.record(8 * MILLIS);
+        assertEquals(8 * MILLIS, roundTrip.estimateNanos());
+    }
+
+    @Test
+    public void laterSamplesMoveTheEstimateAnEighthOfTheWay() {
+        final RoundTripEstimator roundTrip = new RoundTripEstimator();
+        roundTrip.record(8 * MILLIS);
+        roundTrip.record(16 * MILLIS);
+        assertEquals(9 * MILLIS, roundTrip.estimateNanos());
+    }
+
+    @Test
+    public void negativeSamplesAreClampedAtZero() {
+        final RoundTripEstimator roundTrip = new RoundTripEstimator();
+        roundTrip.record(-8 * MILLIS);
+        assertEquals(0, roundTrip.estimateNanos());
+    }
+
+    @Test
+    public void estimateIsRoundedToTheNearestMillisecond() {
+        final RoundTripEstimator roundTrip = new RoundTripEstimator();
+        roundTrip.record(1_499_999);
+        assertEquals(1, roundTrip.estimateMillis());
+        final RoundTripEstimator other = new RoundTripEstimator();
+        other.record(1_500_000);
+        assertEquals(2, other.estimateMillis());
+    }
+
+    @Test
+    public void transactionStartsFromAndFeedsTheChannelEstimate() {
+        final RoundTripEstimator channel = new RoundTripEstimator();
+        channel.record(8 * MILLIS);
+        final RoundTripEstimator transaction = new RoundTripEstimator(channel);
+        assertEquals(8 * MILLIS, transaction.estimateNanos());
+        transaction.record(16 * MILLIS);
+        assertEquals(9 * MILLIS, transaction.estimateNanos());
+        assertEquals(9 * MILLIS, channel.estimateNanos());
+    }
+
+    @Test
+    public void requestIsTimedFromWhenItWasWritten() {
+        final RoundTripEstimator roundTrip = new RoundTripEstimator();
+        final ResponseCollector.Single request = single(new AtomicInteger(0), roundTrip);
+        final long sentNanos = System.nanoTime();
+        request.onSent(sentNanos);
+        request.add(ok());
+        // Timing from the collector's construction would include any time spent queued behind other requests
+        assertTrue(roundTrip.estimateNanos() <= System.nanoTime() - sentNanos);
+        assertTrue(roundTrip.estimateNanos() > 0);
+    }
+
+    @Test
+    public void requestThatOverlapsAnotherIsNotSampled() {
+        final RoundTripEstimator roundTrip = new RoundTripEstimator();
+        final AtomicInteger requestsInFlight = new AtomicInteger(0);
+        final ResponseCollector.Single first = single(requestsInFlight, roundTrip);
+        final ResponseCollector.Single second = single(requestsInFlight, roundTrip);
+        first.onSent(System.nanoTime() - 100 * MILLIS);
+        second.onSent(System.nanoTime() - 100 * MILLIS);
+        first.add(ok());
+        second.add(ok());
+        assertEquals(0, roundTrip.estimateNanos());
+        assertEquals(0, requestsInFlight.get());
+    }
+
+    @Test
+    public void requestAnsweredBeforeItsWriteIsReportedIsNotSampled() {
+        final RoundTripEstimator roundTrip = new RoundTripEstimator();
+        final AtomicInteger requestsInFlight = new AtomicInteger(0);
+        final ResponseCollector.Single request = single(requestsInFlight, roundTrip);
+        request.add(ok());
+        request.onSent(System.nanoTime() - 100 * MILLIS);
+        assertEquals(0, roundTrip.estimateNanos());
+        assertEquals(0, requestsInFlight.get());
+    }
+
+    private static ResponseCollector.Single single(AtomicInteger requestsInFlight, RoundTripEstimator roundTrip) {
+        return new ResponseCollector.Single(0, InboundFlowControl.unbounded(), requestsInFlight, roundTrip);
+    }
+
+    private static Response ok() {
+        return new Response.Ok(TransactionProto.Transaction.Res.getDefaultInstance());
+    }
+}